@@ -0,0 +1,14 @@
+package com.restaurant.ordering.Config;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.env.Environment;
+
+public class BoardProjectionEnabledCondition implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Environment env = context.getEnvironment();
+        return env.getProperty("ordering.board.projection.enabled", Boolean.class, true);
+    }
+}
@@ -16,6 +16,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 public class DataInitializer {
 
@@ -72,6 +75,9 @@ public class DataInitializer {
             return;
         }
 
+        // Saved together so the inserts go out as one JDBC batch
+        List<MenuItem> menuItems = new ArrayList<>();
+
 
         MenuItem bruschetta = MenuItem.builder()
                 .name("Bruschetta")
@@ -79,7 +85,7 @@ public class DataInitializer {
                 .price(8.99)
                 .category(MenuCategory.APPETIZER)
                 .build();
-        menuItemRepository.save(bruschetta);
+        menuItems.add(bruschetta);
 
         MenuItem calamari = MenuItem.builder()
                 .name("Calamari")
@@ -87,7 +93,7 @@ public class DataInitializer {
                 .price(12.99)
                 .category(MenuCategory.APPETIZER)
                 .build();
-        menuItemRepository.save(calamari);
+        menuItems.add(calamari);
 
 
         MenuItem steak = MenuItem.builder()
@@ -96,7 +102,7 @@ public class DataInitializer {
                 .price(29.99)
                 .category(MenuCategory.MAIN_COURSE)
                 .build();
-        menuItemRepository.save(steak);
+        menuItems.add(steak);
 
         MenuItem salmon = MenuItem.builder()
                 .name("Grilled Salmon")
@@ -104,7 +110,7 @@ public class DataInitializer {
                 .price(24.99)
                 .category(MenuCategory.MAIN_COURSE)
                 .build();
-        menuItemRepository.save(salmon);
+        menuItems.add(salmon);
 
         MenuItem pasta = MenuItem.builder()
                 .name("Spaghetti Carbonara")
@@ -112,7 +118,7 @@ public class DataInitializer {
                 .price(18.99)
                 .category(MenuCategory.MAIN_COURSE)
                 .build();
-        menuItemRepository.save(pasta);
+        menuItems.add(pasta);
 
 
         MenuItem tiramisu = MenuItem.builder()
@@ -121,7 +127,7 @@ public class DataInitializer {
                 .price(9.99)
                 .category(MenuCategory.DESSERT)
                 .build();
-        menuItemRepository.save(tiramisu);
+        menuItems.add(tiramisu);
 
         MenuItem cheesecake = MenuItem.builder()
                 .name("New York Cheesecake")
@@ -129,7 +135,7 @@ public class DataInitializer {
                 .price(8.99)
                 .category(MenuCategory.DESSERT)
                 .build();
-        menuItemRepository.save(cheesecake);
+        menuItems.add(cheesecake);
 
 
         MenuItem wine = MenuItem.builder()
@@ -138,7 +144,7 @@ public class DataInitializer {
                 .price(7.99)
                 .category(MenuCategory.DRINK)
                 .build();
-        menuItemRepository.save(wine);
+        menuItems.add(wine);
 
         MenuItem soda = MenuItem.builder()
                 .name("Soft Drink")
@@ -146,7 +152,7 @@ public class DataInitializer {
                 .price(2.99)
                 .category(MenuCategory.DRINK)
                 .build();
-        menuItemRepository.save(soda);
+        menuItems.add(soda);
 
         MenuItem coffee = MenuItem.builder()
                 .name("Coffee")
@@ -154,7 +160,9 @@ public class DataInitializer {
                 .price(3.99)
                 .category(MenuCategory.DRINK)
                 .build();
-        menuItemRepository.save(coffee);
+        menuItems.add(coffee);
+
+        menuItemRepository.saveAll(menuItems);
     }
 
     private void initializeTables(TableItemRepository tableItemRepository) {
@@ -5,6 +5,7 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -13,6 +14,7 @@ public class RabbitMQConfig {
     public static final String ORDER_QUEUE = "order.queue";
     public static final String ORDER_EXCHANGE = "order.exchange";
     public static final String ORDER_ROUTING_KEY = "order.routingkey";
+    public static final String MENU_EXCHANGE = "menu.exchange";
     
     @Bean
     public Queue orderQueue() {
@@ -29,6 +31,35 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(orderQueue).to(orderExchange).with(ORDER_ROUTING_KEY);
     }
     
+    // Per-instance copy of the order events for the in-memory board; removed when the instance stops
+    @Bean
+    @Conditional(BoardProjectionEnabledCondition.class)
+    public Queue orderBoardQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    @Conditional(BoardProjectionEnabledCondition.class)
+    public Binding orderBoardBinding(Queue orderBoardQueue, DirectExchange orderExchange) {
+        return BindingBuilder.bind(orderBoardQueue).to(orderExchange).with(ORDER_ROUTING_KEY);
+    }
+
+    // Every instance reloads its in-memory menu when another one changes it
+    @Bean
+    public FanoutExchange menuExchange() {
+        return new FanoutExchange(MENU_EXCHANGE);
+    }
+
+    @Bean
+    public Queue menuChangeQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding menuChangeBinding(Queue menuChangeQueue, FanoutExchange menuExchange) {
+        return BindingBuilder.bind(menuChangeQueue).to(menuExchange);
+    }
+
     @Bean
     public Jackson2JsonMessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -38,14 +69,7 @@ public class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(jsonMessageConverter());
-
-        rabbitTemplate.setConfirmCallback((correlationData, ack, cause) -> {
-            if (!ack) {
-
-
-                System.err.println("Message delivery failed: " + cause);
-            }
-        });
+        // Confirms are tracked per message through CorrelationData futures in OrderEventPublisher
         return rabbitTemplate;
     }
 } 
\ No newline at end of file
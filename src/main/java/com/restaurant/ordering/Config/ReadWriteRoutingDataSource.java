@@ -0,0 +1,30 @@
+package com.restaurant.ordering.Config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is
+ * only set after the transaction manager asks for a connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        // A user who just wrote reads from the primary until the replica is likely to have caught up
+        String user = ReadYourWritesTracker.currentUser();
+        return readYourWritesTracker.recentlyWrote(user, System.currentTimeMillis()) ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,54 @@
+package com.restaurant.ordering.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last committed a write, so their reads can stay on the primary
+ * until the replica has had time to catch up. Anonymous callers are not tracked.
+ */
+@Component
+@Conditional(ReplicaDataSourceCondition.class)
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final Map<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(@Value("${ordering.datasource.read-your-writes-ms:2000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            String user = currentUser();
+            if (user != null) {
+                recordWrite(user, System.currentTimeMillis());
+            }
+        }
+    }
+
+    public boolean recentlyWrote(String user, long nowMillis) {
+        Long lastWrite = user == null ? null : lastWriteMillis.get(user);
+        return lastWrite != null && nowMillis - lastWrite < windowMillis;
+    }
+
+    void recordWrite(String user, long nowMillis) {
+        lastWriteMillis.put(user, nowMillis);
+        // Keep the map to users still inside their window
+        lastWriteMillis.values().removeIf(at -> nowMillis - at >= windowMillis);
+    }
+
+    static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
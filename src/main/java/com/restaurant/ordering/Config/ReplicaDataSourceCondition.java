@@ -0,0 +1,15 @@
+package com.restaurant.ordering.Config;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+public class ReplicaDataSourceCondition implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Environment env = context.getEnvironment();
+        return StringUtils.hasText(env.getProperty("ordering.datasource.replica.url"));
+    }
+}
@@ -74,6 +74,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/kitchen/**").hasAuthority("ROLE_KITCHEN")
                         .requestMatchers("/api/waiter/**").hasAuthority("ROLE_WAITER")
                         .requestMatchers("/manager/menu/**").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/manager/orders/**").hasAuthority("ROLE_MANAGER")
                         .anyRequest().authenticated()
                 )
 
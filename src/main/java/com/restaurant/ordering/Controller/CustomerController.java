@@ -1,19 +1,28 @@
 package com.restaurant.ordering.Controller;
 
 import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.DTO.MenuSnapshot;
 import com.restaurant.ordering.DTO.OrderDTO;
 import com.restaurant.ordering.Enums.OrderStatus;
 import com.restaurant.ordering.Model.Order;
 import com.restaurant.ordering.Model.TableItem;
 import com.restaurant.ordering.Repository.TableItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Service.IdempotencyService;
+import com.restaurant.ordering.Service.MenuAvailabilityService;
 import com.restaurant.ordering.Service.OrderService;
 import com.restaurant.ordering.Service.MenuService;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/customer")
@@ -28,28 +37,84 @@ public class CustomerController {
     @Autowired
     private TableItemRepository tableItemRepository;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private MenuPayloads menuPayloads;
+
+    @Autowired
+    private MenuAvailabilityService menuAvailabilityService;
+
     @PostMapping("/order")
-    public OrderDTO createOrder(@RequestBody CreateOrderDTO order) {
-        return orderService.createOrder(order);
+    public OrderDTO createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CreateOrderDTO order) {
+        // Customers are anonymous, so the key is scoped to the table the order is for
+        String key = idempotencyKey != null
+                ? "customer:order:create:" + order.getTableId() + ":" + idempotencyKey
+                : null;
+        return idempotencyService.execute(key, order, () -> orderService.createOrder(order));
     }
 
 
-    @GetMapping("/menu/{tableId}")
-    public List<MenuItem> getMenu(@PathVariable String tableId) {
-        List<MenuItem> menuItems = menuService.getAllMenuItems();
-        if (menuItems.isEmpty()) {
+    @GetMapping(value = "/menu/{tableId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getMenu(
+            @PathVariable String tableId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MenuSnapshot menu = menuService.getMenuSnapshot();
+        if (menu.isEmpty()) {
             throw new NoSuchElementException("Menu is currently unavailable.");
         }
-        return menuService.getAllMenuItems();
+
+        String version = MenuPayloads.version(menu, menuAvailabilityService.getSoldOutGeneration());
+        boolean gzipped = MenuPayloads.acceptsGzip(acceptEncoding);
+        String etag = MenuPayloads.etag(version, gzipped);
+        // Either variant's tag names the same menu version, so both revalidate
+        if (ETags.matches(ifNoneMatch, etag) || ETags.matches(ifNoneMatch, MenuPayloads.etag(version, !gzipped))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        MenuPayloads.Rendered payload = menuPayloads.forVersion(version, menu, this::soldOut);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzipped) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return ok.body(payload.json());
+    }
+
+    private Set<Long> soldOut() {
+        return menuAvailabilityService.getStockLevels().entrySet().stream()
+                .filter(entry -> entry.getValue() <= 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @GetMapping("/menu/search")
+    public List<MenuItem> searchMenu(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return menuService.searchMenuItems(query, limit);
     }
 
     @PutMapping("/order/{orderId}/item")
-    public OrderDTO updateOrderItem(@PathVariable Long orderId, @RequestBody CreateOrderDTO updatedOrder) {
+    public OrderDTO updateOrderItem(
+            @PathVariable Long orderId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CreateOrderDTO updatedOrder) {
         if (updatedOrder.getItems() == null || updatedOrder.getItems().isEmpty()) {
             throw new IllegalArgumentException("Updated order must contain at least one item.");
         }
 
-        return orderService.updateOrderItems(orderId, updatedOrder);
+        String key = idempotencyKey != null ? "customer:order:" + orderId + ":items:" + idempotencyKey : null;
+        return idempotencyService.execute(key, updatedOrder, () -> orderService.updateOrderItems(orderId, updatedOrder));
     }
 
     @DeleteMapping("/order/{orderId}/item/{itemId}")
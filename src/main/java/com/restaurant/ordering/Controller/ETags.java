@@ -0,0 +1,58 @@
+package com.restaurant.ordering.Controller;
+
+import com.restaurant.ordering.Enums.OrderStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Version-based ETags for polled reads. Tags are built from a version the services can report
+ * cheaply, so a matching If-None-Match is answered before the body is loaded or serialized.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String order(Long orderId, long version) {
+        return "\"order-" + orderId + "-" + version + "\"";
+    }
+
+    static String board(OrderStatus status, String version) {
+        return version == null ? null : "\"board-" + status + "-" + version + "\"";
+    }
+
+    static String menu(String version) {
+        return "\"menu-" + version + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match uses weak comparison
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 304 when the client already has {@code etag}, otherwise 200 with the body from {@code body}.
+     * A null tag means the resource is not versioned and the body is always sent.
+     */
+    static <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (etag != null) {
+            ok.eTag(etag);
+        }
+        return ok.body(body.get());
+    }
+}
@@ -1,5 +1,10 @@
 package com.restaurant.ordering.Controller;
 
+import com.restaurant.ordering.ServiceImpl.OrderEventPublisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
@@ -15,10 +20,16 @@ import java.util.Map;
 public class HealthCheckController {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final OrderEventPublisher orderEventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Autowired
-    public HealthCheckController(RedisTemplate<String, Object> redisTemplate) {
+    public HealthCheckController(RedisTemplate<String, Object> redisTemplate,
+                                 OrderEventPublisher orderEventPublisher,
+                                 EntityManagerFactory entityManagerFactory) {
         this.redisTemplate = redisTemplate;
+        this.orderEventPublisher = orderEventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @GetMapping
@@ -29,10 +40,40 @@ public class HealthCheckController {
 
         boolean redisConnected = checkRedisConnection();
         response.put("redis", redisConnected ? "Connected" : "Not connected");
+        response.put("orderEvents", orderEventPublisher.getStats());
+        response.put("secondLevelCache", cacheStats());
         
         return ResponseEntity.ok(response);
     }
     
+    private Map<String, Object> cacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return Map.of("enabled", false);
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", true);
+        stats.put("hits", statistics.getSecondLevelCacheHitCount());
+        stats.put("misses", statistics.getSecondLevelCacheMissCount());
+        stats.put("puts", statistics.getSecondLevelCachePutCount());
+        stats.put("queryHits", statistics.getQueryCacheHitCount());
+        stats.put("queryMisses", statistics.getQueryCacheMissCount());
+        Map<String, Object> regions = new HashMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats != null) {
+                regions.put(region, Map.of(
+                    "hits", regionStats.getHitCount(),
+                    "misses", regionStats.getMissCount(),
+                    "puts", regionStats.getPutCount(),
+                    "entries", regionStats.getElementCountInMemory()
+                ));
+            }
+        }
+        stats.put("regions", regions);
+        return stats;
+    }
+
     private boolean checkRedisConnection() {
         try {
             // Try to ping Redis
@@ -3,8 +3,10 @@ package com.restaurant.ordering.Controller;
 import com.restaurant.ordering.DTO.OrderDTO;
 import com.restaurant.ordering.Enums.OrderStatus;
 import com.restaurant.ordering.Service.KitchenStaffService;
+import com.restaurant.ordering.Service.OrderBoardService;
 import com.restaurant.ordering.Service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -19,15 +21,13 @@ public class KitchenController {
 
     private final KitchenStaffService kitchenStaffService;
     private final OrderService orderService;
+    private final OrderBoardService orderBoardService;
 
     @GetMapping("/incoming")
     @PreAuthorize("hasRole('KITCHEN')")
-    public ResponseEntity<List<OrderDTO>> getIncomingOrders() {
-        List<OrderDTO> orders = orderService.getOrdersByStatus(OrderStatus.CREATED);
-        if (orders.isEmpty()) {
-            throw new NoSuchElementException("No incoming orders found.");
-        }
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderDTO>> getIncomingOrders(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardResponse(OrderStatus.CREATED, ifNoneMatch, "No incoming orders found.");
     }
 
     @PutMapping("/{orderId}/prepare")
@@ -60,22 +60,27 @@ public class KitchenController {
 
     @GetMapping("/preparing")
     @PreAuthorize("hasRole('KITCHEN')")
-    public ResponseEntity<List<OrderDTO>> getOrdersInPreparation() {
-        List<OrderDTO> preparingOrders = orderService.getOrdersByStatus(OrderStatus.IN_PREPARATION);
-        if (preparingOrders.isEmpty()) {
-            throw new NoSuchElementException("No orders currently in preparation.");
-        }
-        return ResponseEntity.ok(preparingOrders);
+    public ResponseEntity<List<OrderDTO>> getOrdersInPreparation(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardResponse(OrderStatus.IN_PREPARATION, ifNoneMatch, "No orders currently in preparation.");
     }
 
 
     @GetMapping("/ready")
     @PreAuthorize("hasRole('KITCHEN')")
-    public ResponseEntity<List<OrderDTO>> getReadyOrders() {
-        List<OrderDTO> readyOrders = orderService.getOrdersByStatus(OrderStatus.READY);
-        if (readyOrders.isEmpty()) {
-            throw new NoSuchElementException("No orders are currently ready.");
-        }
-        return ResponseEntity.ok(readyOrders);
+    public ResponseEntity<List<OrderDTO>> getReadyOrders(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardResponse(OrderStatus.READY, ifNoneMatch, "No orders are currently ready.");
+    }
+
+    private ResponseEntity<List<OrderDTO>> boardResponse(OrderStatus status, String ifNoneMatch, String emptyMessage) {
+        String etag = ETags.board(status, orderBoardService.getVersion(status));
+        return ETags.conditional(ifNoneMatch, etag, () -> {
+            List<OrderDTO> orders = orderBoardService.getOrders(status);
+            if (orders.isEmpty()) {
+                throw new NoSuchElementException(emptyMessage);
+            }
+            return orders;
+        });
     }
 }
@@ -1,13 +1,25 @@
 package com.restaurant.ordering.Controller;
 
+import com.restaurant.ordering.DTO.MenuImportResultDTO;
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Enums.MenuImportFormat;
 import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Service.MenuAvailabilityService;
+import com.restaurant.ordering.Service.MenuImportService;
 import com.restaurant.ordering.Service.MenuService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @RestController
@@ -17,6 +29,12 @@ public class MenuController {
     @Autowired
     private MenuService menuService;
 
+    @Autowired
+    private MenuAvailabilityService menuAvailabilityService;
+
+    @Autowired
+    private MenuImportService menuImportService;
+
     @GetMapping
     public ResponseEntity<List<MenuItem>> getAllItems() {
         List<MenuItem> items = menuService.getAllMenuItems();
@@ -26,6 +44,16 @@ public class MenuController {
         return ResponseEntity.ok(items);
     }
 
+    @GetMapping("/category/{category}")
+    public List<MenuItem> getItemsByCategory(@PathVariable MenuCategory category) {
+        return menuService.getMenuItemsByCategory(category);
+    }
+
+    @GetMapping("/by-price")
+    public List<MenuItem> getItemsByPrice(@RequestParam(defaultValue = "true") boolean ascending) {
+        return menuService.getMenuItemsByPrice(ascending);
+    }
+
     @PostMapping
     public ResponseEntity<MenuItem> addMenuItem(@RequestBody MenuItem item) {
         if (item.getName() == null) {
@@ -52,4 +80,49 @@ public class MenuController {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    // The body is parsed as it arrives, so the upload is never held in memory as a whole
+    @PostMapping(value = "/import",
+            consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public MenuImportResultDTO importMenu(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException, HttpMediaTypeNotSupportedException {
+        return menuImportService.importMenu(body, importFormat(MediaType.parseMediaType(contentType)));
+    }
+
+    private static MenuImportFormat importFormat(MediaType contentType) throws HttpMediaTypeNotSupportedException {
+        for (MenuImportFormat format : MenuImportFormat.values()) {
+            for (String accepted : format.getContentTypes()) {
+                if (MediaType.parseMediaType(accepted).includes(contentType)) {
+                    return format;
+                }
+            }
+        }
+        List<MediaType> supported = Arrays.stream(MenuImportFormat.values())
+                .flatMap(format -> format.getContentTypes().stream())
+                .map(MediaType::parseMediaType)
+                .toList();
+        throw new HttpMediaTypeNotSupportedException(contentType, supported);
+    }
+
+    @GetMapping("/stock")
+    public Map<Long, Integer> getStockLevels() {
+        return menuAvailabilityService.getStockLevels();
+    }
+
+    @PutMapping("/{id}/stock")
+    public ResponseEntity<Map<Long, Integer>> setStock(@PathVariable Long id, @RequestParam int quantity) {
+        if (menuService.getAllMenuItems().stream().noneMatch(item -> item.getId().equals(id))) {
+            return ResponseEntity.notFound().build();
+        }
+        menuAvailabilityService.setStock(id, quantity);
+        return ResponseEntity.ok(Map.of(id, menuAvailabilityService.getStock(id)));
+    }
+
+    // Stops limiting the item; it stays orderable until a new count is set
+    @DeleteMapping("/{id}/stock")
+    public ResponseEntity<Void> clearStock(@PathVariable Long id) {
+        menuAvailabilityService.setStock(id, null);
+        return ResponseEntity.ok().build();
+    }
+}
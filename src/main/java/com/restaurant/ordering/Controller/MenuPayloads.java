@@ -0,0 +1,140 @@
+package com.restaurant.ordering.Controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.MenuItemDTO;
+import com.restaurant.ordering.DTO.MenuSnapshot;
+import com.restaurant.ordering.Model.MenuItem;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The customer menu rendered once per menu version and sold-out generation: the JSON bytes and a
+ * gzip copy, each with its own strong ETag. Requests for an unchanged menu are served from these
+ * arrays without touching Jackson or the compressor. Only sold-out transitions re-render, not
+ * every stock decrement.
+ */
+@Component
+class MenuPayloads {
+
+    record Rendered(String version, byte[] json, byte[] gzip) {
+
+        String etag(boolean gzipped) {
+            return MenuPayloads.etag(version, gzipped);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Rendered> rendered = new AtomicReference<>();
+
+    MenuPayloads(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The payload version for a menu snapshot and sold-out generation, known before any stock
+     * levels are read, so a matching If-None-Match costs no more than reading the generation.
+     */
+    static String version(MenuSnapshot snapshot, long soldOutGeneration) {
+        return soldOutGeneration == 0 ? snapshot.version() : snapshot.version() + "-s" + soldOutGeneration;
+    }
+
+    static String etag(String version, boolean gzipped) {
+        // Strong tags must differ per encoding since the bytes differ
+        return gzipped ? "\"menu-" + version + "-gzip\"" : ETags.menu(version);
+    }
+
+    /**
+     * Rendered bytes for {@code version}; the sold-out items are only read when it has not been
+     * rendered yet.
+     */
+    Rendered forVersion(String version, MenuSnapshot snapshot, Supplier<Set<Long>> soldOut) {
+        Rendered current = rendered.get();
+        if (current != null && current.version().equals(version)) {
+            return current;
+        }
+        // Racing renders of the same version produce identical bytes, so last writer wins
+        Rendered fresh = render(version, snapshot, soldOut.get());
+        rendered.set(fresh);
+        return fresh;
+    }
+
+    private Rendered render(String version, MenuSnapshot snapshot, Set<Long> soldOut) {
+        List<MenuItemDTO> items = snapshot.items().stream()
+                .map(item -> toDTO(item, !soldOut.contains(item.getId())))
+                .toList();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(items);
+            return new Rendered(version, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render menu " + version, e);
+        }
+    }
+
+    private static MenuItemDTO toDTO(MenuItem item, boolean available) {
+        MenuItemDTO dto = new MenuItemDTO();
+        dto.setId(item.getId());
+        dto.setName(item.getName());
+        dto.setDescription(item.getDescription());
+        dto.setPrice(BigDecimal.valueOf(item.getPrice()));
+        dto.setCategory(item.getCategory() != null ? item.getCategory().name() : null);
+        dto.setAvailable(available);
+        return dto;
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether Accept-Encoding allows gzip with a non-zero weight. An explicit gzip entry decides
+     * over {@code *} wherever either appears, so {@code *, gzip;q=0} refuses gzip.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzip = quality(tokens);
+            } else if (coding.equals("*")) {
+                wildcard = quality(tokens);
+            }
+        }
+        Double weight = gzip != null ? gzip : wildcard;
+        return weight != null && weight > 0;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim().replace(" ", "");
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    // An unreadable weight is treated as the default of 1
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,12 +1,17 @@
 package com.restaurant.ordering.Controller;
 
 import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.DTO.OrderBatchResultDTO;
 import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.DTO.OrderPageDTO;
 import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Service.IdempotencyService;
 import com.restaurant.ordering.Service.OrderService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -14,23 +19,39 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, IdempotencyService idempotencyService) {
         this.orderService = orderService;
+        this.idempotencyService = idempotencyService;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('WAITER')")
-    public ResponseEntity<OrderDTO> createOrder(@RequestBody CreateOrderDTO orderDTO) {
-        return ResponseEntity.ok(orderService.createOrder(orderDTO));
+    public ResponseEntity<OrderDTO> createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CreateOrderDTO orderDTO,
+            Principal principal) {
+        String key = scopedKey("orders:create", principal, idempotencyKey);
+        return ResponseEntity.ok(idempotencyService.execute(key, orderDTO, () -> orderService.createOrder(orderDTO)));
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('WAITER')")
+    public ResponseEntity<List<OrderBatchResultDTO>> createOrders(@RequestBody List<CreateOrderDTO> orderDTOs) {
+        return ResponseEntity.ok(orderService.createOrders(orderDTOs));
     }
 
     @PutMapping("/{orderId}/items")
     @PreAuthorize("hasRole('WAITER')")
     public ResponseEntity<OrderDTO> updateOrderItems(
             @PathVariable Long orderId,
-            @RequestBody CreateOrderDTO updatedOrder) {
-        return ResponseEntity.ok(orderService.updateOrderItems(orderId, updatedOrder));
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CreateOrderDTO updatedOrder,
+            Principal principal) {
+        String key = scopedKey("orders:" + orderId + ":items", principal, idempotencyKey);
+        return ResponseEntity.ok(idempotencyService.execute(key, updatedOrder,
+                () -> orderService.updateOrderItems(orderId, updatedOrder)));
     }
 
     @DeleteMapping("/{orderId}/items/{itemId}")
@@ -51,8 +72,11 @@ public class OrderController {
 
     @GetMapping("/{orderId}")
     @PreAuthorize("hasAnyRole('KITCHEN', 'WAITER', 'MANAGER')")
-    public ResponseEntity<OrderDTO> getOrder(@PathVariable Long orderId) {
-        return ResponseEntity.ok(orderService.getOrder(orderId));
+    public ResponseEntity<OrderDTO> getOrder(
+            @PathVariable Long orderId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.order(orderId, orderService.getOrderVersion(orderId));
+        return ETags.conditional(ifNoneMatch, etag, () -> orderService.getOrder(orderId));
     }
 
     @GetMapping("/table/{tableId}")
@@ -75,8 +99,12 @@ public class OrderController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('KITCHEN', 'WAITER', 'MANAGER')")
-    public ResponseEntity<List<OrderDTO>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<OrderPageDTO> getOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) Long tableId) {
+        return ResponseEntity.ok(orderService.getOrdersPage(cursor, limit, status, tableId));
     }
 
     @GetMapping("/{orderId}/status")
@@ -84,4 +112,13 @@ public class OrderController {
     public ResponseEntity<OrderStatus> getOrderStatus(@PathVariable Long orderId) {
         return ResponseEntity.ok(orderService.getOrderStatus(orderId));
     }
+
+    // Scoped to the caller, so two devices that happen to pick the same key never share a response
+    private static String scopedKey(String operation, Principal principal, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return null;
+        }
+        String caller = principal != null ? principal.getName() : "anonymous";
+        return operation + ":" + caller + ":" + idempotencyKey;
+    }
 }
@@ -3,9 +3,10 @@ package com.restaurant.ordering.Controller;
 import com.restaurant.ordering.DTO.OrderDTO;
 import com.restaurant.ordering.Model.Order;
 import com.restaurant.ordering.Service.WaiterService;
-import com.restaurant.ordering.Service.OrderService;
+import com.restaurant.ordering.Service.OrderBoardService;
 import com.restaurant.ordering.Enums.OrderStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,16 +19,20 @@ import java.util.NoSuchElementException;
 public class WaiterController {
 
     private final WaiterService waiterService;
-    private final OrderService orderService;
+    private final OrderBoardService orderBoardService;
 
 
     @GetMapping("/ready-orders")
-    public ResponseEntity<List<OrderDTO>> getReadyOrders() {
-        List<OrderDTO> readyOrders = orderService.getOrdersByStatus(OrderStatus.READY);
-        if (readyOrders.isEmpty()) {
-            throw new NoSuchElementException("There are no ready orders to deliver.");
-        }
-        return ResponseEntity.ok(readyOrders);
+    public ResponseEntity<List<OrderDTO>> getReadyOrders(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.board(OrderStatus.READY, orderBoardService.getVersion(OrderStatus.READY));
+        return ETags.conditional(ifNoneMatch, etag, () -> {
+            List<OrderDTO> readyOrders = orderBoardService.getOrders(OrderStatus.READY);
+            if (readyOrders.isEmpty()) {
+                throw new NoSuchElementException("There are no ready orders to deliver.");
+            }
+            return readyOrders;
+        });
     }
 
 
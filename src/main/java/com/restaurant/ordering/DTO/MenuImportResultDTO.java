@@ -0,0 +1,30 @@
+package com.restaurant.ordering.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImportResultDTO {
+    private int created;
+    private int updated;
+    private int failed;
+    // Only the first failures are listed; failed counts all of them
+    private List<RowError> errors = new ArrayList<>();
+    // Menu version after the import, published once for the whole file
+    private String menuVersion;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        // 1-based position among the data rows; a CSV header is not counted
+        private long row;
+        private String message;
+    }
+}
@@ -0,0 +1,60 @@
+package com.restaurant.ordering.DTO;
+
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Model.MenuItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the whole menu at one version. Every list is built once when the snapshot is
+ * created, so readers share them without locking; the items themselves must be treated as read-only.
+ */
+public record MenuSnapshot(
+        String version,
+        List<MenuItem> items,
+        List<MenuItem> itemsByPrice,
+        Map<MenuCategory, List<MenuItem>> itemsByCategory) {
+
+    private static final Comparator<MenuItem> BY_PRICE =
+            Comparator.comparingDouble(MenuItem::getPrice).thenComparing(MenuItem::getId);
+
+    public static MenuSnapshot of(String version, List<MenuItem> menuItems) {
+        List<MenuItem> items = new ArrayList<>(menuItems);
+        items.sort(Comparator.comparing(MenuItem::getId));
+
+        List<MenuItem> byPrice = new ArrayList<>(items);
+        byPrice.sort(BY_PRICE);
+
+        // Filled from the price-sorted list so every category lane is already in price order
+        Map<MenuCategory, List<MenuItem>> byCategory = new EnumMap<>(MenuCategory.class);
+        for (MenuCategory category : MenuCategory.values()) {
+            byCategory.put(category, new ArrayList<>());
+        }
+        for (MenuItem item : byPrice) {
+            if (item.getCategory() != null) {
+                byCategory.get(item.getCategory()).add(item);
+            }
+        }
+        byCategory.replaceAll((category, lane) -> List.copyOf(lane));
+
+        return new MenuSnapshot(version, List.copyOf(items), List.copyOf(byPrice),
+                Collections.unmodifiableMap(byCategory));
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public List<MenuItem> byCategory(MenuCategory category) {
+        return itemsByCategory.get(category);
+    }
+
+    public List<MenuItem> byPrice(boolean ascending) {
+        return ascending ? itemsByPrice : itemsByPrice.reversed();
+    }
+}
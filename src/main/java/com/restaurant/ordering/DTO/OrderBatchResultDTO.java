@@ -0,0 +1,25 @@
+package com.restaurant.ordering.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResultDTO {
+    // Position of the order in the submitted batch
+    private int index;
+    private Long tableId;
+    private boolean success;
+    private OrderDTO order;
+    private String error;
+
+    public static OrderBatchResultDTO success(int index, OrderDTO order) {
+        return new OrderBatchResultDTO(index, order.getTableId(), true, order, null);
+    }
+
+    public static OrderBatchResultDTO failure(int index, Long tableId, String error) {
+        return new OrderBatchResultDTO(index, tableId, false, null, error);
+    }
+}
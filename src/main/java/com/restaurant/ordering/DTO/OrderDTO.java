@@ -13,6 +13,8 @@ public class OrderDTO {
     private OrderStatus status;
     private LocalDateTime createdAt;
     private double totalAmount;
+    // The order row's optimistic-lock version; lets event consumers tell a stale copy from a newer one
+    private Long version;
     
     @Data
     public static class OrderItemDTO {
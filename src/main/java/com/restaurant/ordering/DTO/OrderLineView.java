@@ -0,0 +1,22 @@
+package com.restaurant.ordering.DTO;
+
+import com.restaurant.ordering.Enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the flat order read query: the order's columns repeated for each of its lines.
+ * Item columns are null for an order without lines.
+ */
+public record OrderLineView(
+        Long orderId,
+        Long tableId,
+        OrderStatus status,
+        LocalDateTime createdAt,
+        double total,
+        Long version,
+        Long menuItemId,
+        String itemName,
+        Integer quantity,
+        Double unitPrice) {
+}
@@ -0,0 +1,16 @@
+package com.restaurant.ordering.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPageDTO {
+    private List<OrderDTO> orders;
+    // Pass back as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
+}
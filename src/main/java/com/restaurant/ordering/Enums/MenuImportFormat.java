@@ -0,0 +1,19 @@
+package com.restaurant.ordering.Enums;
+
+import java.util.List;
+
+public enum MenuImportFormat {
+    CSV("text/csv"),
+    // A top-level array or newline-delimited objects; the reader tells them apart itself
+    JSON("application/json", "application/x-ndjson");
+
+    private final List<String> contentTypes;
+
+    MenuImportFormat(String... contentTypes) {
+        this.contentTypes = List.of(contentTypes);
+    }
+
+    public List<String> getContentTypes() {
+        return contentTypes;
+    }
+}
@@ -1,9 +1,39 @@
 package com.restaurant.ordering.Enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     CREATED,
     IN_PREPARATION,
     READY,
     DELIVERED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED;
+
+    /**
+     * Statuses an order may be in when it is moved to this one.
+     * CREATED is only ever set on insert, so nothing may move back to it.
+     */
+    public Set<OrderStatus> getAllowedPredecessors() {
+        return switch (this) {
+            case CREATED -> EnumSet.noneOf(OrderStatus.class);
+            case IN_PREPARATION -> EnumSet.of(CREATED);
+            case READY -> EnumSet.of(IN_PREPARATION);
+            case DELIVERED -> EnumSet.of(READY);
+            case CANCELLED -> EnumSet.of(CREATED, IN_PREPARATION, READY);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.getAllowedPredecessors().contains(this);
+    }
+
+    // Delivered and cancelled orders no longer belong to a table session
+    public boolean isClosed() {
+        return this == DELIVERED || this == CANCELLED;
+    }
+
+    public static Set<OrderStatus> activeStatuses() {
+        return EnumSet.of(CREATED, IN_PREPARATION, READY);
+    }
+}
@@ -0,0 +1,12 @@
+package com.restaurant.ordering.Exception;
+
+/**
+ * An Idempotency-Key was sent again with a different request body; answered with 422 rather than
+ * replaying a response that belongs to another request.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used for a different request");
+    }
+}
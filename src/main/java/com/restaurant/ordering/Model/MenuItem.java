@@ -4,8 +4,12 @@ import com.restaurant.ordering.Enums.MenuCategory;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menuItems")
 @Table(name = "menu_items")
 @Data
 @NoArgsConstructor
@@ -14,7 +18,8 @@ import jakarta.persistence.Table;
 public class MenuItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_item_seq")
+    @SequenceGenerator(name = "menu_item_seq", sequenceName = "menu_items_seq", allocationSize = 50)
     private Long id;
 
     private String name;
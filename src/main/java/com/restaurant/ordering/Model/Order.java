@@ -10,15 +10,25 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Kitchen/waiter boards: WHERE status = ? ORDER BY created_at
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at"),
+        // Active order per table and table history
+        @Index(name = "idx_orders_table_status_created", columnList = "table_id, status, created_at"),
+        // Date-range reads, keyset pages and export
+        @Index(name = "idx_orders_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_orders_customer", columnList = "customer_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Order {
 
+    // Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     // Link to customer (who made the order)
@@ -37,6 +47,10 @@ public class Order {
     // Total price
     private double total;
 
+    // Incremented on every change to the order or its items; used as the order's ETag
+    @Version
+    private Long version;
+
     // Items in the order
     @JsonIgnore
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -50,7 +64,11 @@ public class Order {
 
     @PrePersist
     public void prePersist() {
-        createdAt = LocalDateTime.now();
-        status = OrderStatus.CREATED;
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (status == null) {
+            status = OrderStatus.CREATED;
+        }
     }
 }
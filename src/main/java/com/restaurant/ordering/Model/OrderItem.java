@@ -6,7 +6,7 @@ import lombok.*;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = @Index(name = "idx_order_items_order", columnList = "order_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,7 +14,8 @@ import jakarta.persistence.Table;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     // Quantity of the menu item
@@ -25,6 +26,12 @@ public class OrderItem {
     @JoinColumn(name = "menu_item_id")
     private MenuItem menuItem;
 
+    // Name and price copied from the menu item when ordered, so later menu edits
+    // don't change past orders and reads don't need to load the MenuItem
+    private String itemName;
+
+    private double unitPrice;
+
     // The order this item belongs to
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
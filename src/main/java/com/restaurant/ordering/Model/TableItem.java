@@ -4,13 +4,17 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.restaurant.ordering.Model.Users.Customer;
 import jakarta.persistence.*;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import lombok.*;
 
 import java.util.List;
 
 @Entity
-@Table(name = "tables")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tables")
+@Table(name = "tables", uniqueConstraints = @UniqueConstraint(name = "uk_tables_table_id", columnNames = "table_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +22,8 @@ import java.util.List;
 public class TableItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "table_seq")
+    @SequenceGenerator(name = "table_seq", sequenceName = "tables_seq", allocationSize = 50)
     private Long id;
 
     private Long tableId;  // Unique identifier for the table, if applicable.
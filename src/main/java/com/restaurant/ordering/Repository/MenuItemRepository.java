@@ -2,9 +2,13 @@ package com.restaurant.ordering.Repository;
 
 import com.restaurant.ordering.Model.MenuItem;
 import com.restaurant.ordering.Enums.MenuCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,11 +18,15 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
 
     Optional<MenuItem> findById(Long id);
 
+    // Result ids go to the query cache, rows to the menuItems region; any menu write invalidates both
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<MenuItem> findByCategory(MenuCategory category);
 
-    List<MenuItem> findByNameContainingIgnoreCase(String name);
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<MenuItem> findAll();
 
-    List<MenuItem> findAllByOrderByPriceAsc();
+    List<MenuItem> findByNameContainingIgnoreCase(String name);
 
-    List<MenuItem> findAllByOrderByPriceDesc();
+    List<MenuItem> findByNameIn(Collection<String> names);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.restaurant.ordering.Repository;
+
+import com.restaurant.ordering.Model.OrderOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // Oldest pending events first so the relay publishes in commit order
+    List<OrderOutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+}
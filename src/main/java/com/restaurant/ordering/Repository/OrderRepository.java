@@ -1,15 +1,24 @@
 package com.restaurant.ordering.Repository;
 
+import com.restaurant.ordering.DTO.OrderLineView;
 import com.restaurant.ordering.Model.Order;
 import com.restaurant.ordering.Enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -28,7 +37,87 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     List<Order> findByTableId(Long tableId);
 
+    // Latest order of a table in one of the given statuses; pass PageRequest.of(0, 1) for a LIMIT 1
+    @Query("SELECT o.id FROM Order o WHERE o.table.id = :tableId AND o.status IN :statuses " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsByTableAndStatus(@Param("tableId") Long tableId,
+                                             @Param("statuses") Collection<OrderStatus> statuses,
+                                             Pageable pageable);
+
     // Find order by ID with items eagerly fetched
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") Long id);
+
+    // Read-only views: exactly the columns OrderDTO needs, never entering the persistence context
+    String ORDER_LINE_VIEW = "SELECT new com.restaurant.ordering.DTO.OrderLineView(" +
+            "o.id, t.tableId, o.status, o.createdAt, o.total, o.version, m.id, i.itemName, i.quantity, i.unitPrice) " +
+            "FROM Order o JOIN o.table t LEFT JOIN o.items i LEFT JOIN i.menuItem m ";
+
+    @Query(ORDER_LINE_VIEW + "WHERE o.id = :id ORDER BY i.id")
+    List<OrderLineView> findLineViewsById(@Param("id") Long id);
+
+    @Query(ORDER_LINE_VIEW + "WHERE t.id = :tableId ORDER BY o.createdAt, o.id, i.id")
+    List<OrderLineView> findLineViewsByTableId(@Param("tableId") Long tableId);
+
+    @Query(ORDER_LINE_VIEW + "WHERE o.status = :status ORDER BY o.createdAt, o.id, i.id")
+    List<OrderLineView> findLineViewsByStatus(@Param("status") OrderStatus status);
+
+    // Export cursor: rows are pulled from the driver in fixed-size chunks; close the stream when done
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ORDER_LINE_VIEW +
+           "WHERE (:from IS NULL OR o.createdAt >= :from) " +
+           "AND (:to IS NULL OR o.createdAt < :to) " +
+           "AND (:status IS NULL OR o.status = :status) " +
+           "ORDER BY o.createdAt, o.id, i.id")
+    Stream<OrderLineView> streamLineViewsForExport(@Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to,
+                                                   @Param("status") OrderStatus status);
+
+    // Order history pages, newest first, keyed on (createdAt, id) so deep pages cost the same as the first
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE (:status IS NULL OR o.status = :status) " +
+           "AND (:tableId IS NULL OR o.table.id = :tableId) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findPageIds(@Param("status") OrderStatus status,
+                           @Param("tableId") Long tableId,
+                           Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE (:status IS NULL OR o.status = :status) " +
+           "AND (:tableId IS NULL OR o.table.id = :tableId) " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findPageIdsBefore(@Param("status") OrderStatus status,
+                                 @Param("tableId") Long tableId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Query("SELECT o FROM Order o JOIN FETCH o.table LEFT JOIN FETCH o.items " +
+           "WHERE o.id IN :ids ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") Long id);
+
+    @Query("SELECT o.version FROM Order o WHERE o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Changes the status only if the row still has one of the expected statuses; returns the rows updated
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.status IN :expected")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("status") OrderStatus status,
+                            @Param("expected") Collection<OrderStatus> expected);
+
+    /**
+     * Moves the order to {@code target} if the transition table in {@link OrderStatus} allows it
+     * from the status currently stored. Returns false when the order is missing or the move is not allowed,
+     * including when a concurrent update got there first.
+     */
+    default boolean transitionStatus(Long id, OrderStatus target) {
+        Set<OrderStatus> allowed = target.getAllowedPredecessors();
+        return !allowed.isEmpty() && compareAndSetStatus(id, target, allowed) == 1;
+    }
 }
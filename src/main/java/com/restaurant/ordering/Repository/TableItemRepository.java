@@ -1,9 +1,13 @@
 package com.restaurant.ordering.Repository;
 
 import com.restaurant.ordering.Model.TableItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +16,10 @@ public interface TableItemRepository extends JpaRepository<TableItem, Long> {
 
     Optional<TableItem> findById(Long id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TableItem> findByTableId(Long tableId);
 
+    List<TableItem> findByTableIdIn(Collection<Long> tableIds);
+
     List<TableItem> findAll();
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.restaurant.ordering.Service;
+
+import com.restaurant.ordering.DTO.OrderDTO;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs the action once per key and replays the stored response for repeated keys.
+     * The key is claimed before the action runs, so a concurrent request with the same key waits
+     * for the first one and gets its response, or an {@link IllegalStateException} (409) if the
+     * first request failed or is still running when the wait runs out.
+     * A fingerprint of {@code request} is stored with the claim; reusing the key with a different
+     * request raises {@link com.restaurant.ordering.Exception.IdempotencyKeyReusedException} (422).
+     * Callers scope the key to the client that sent it. Requests without a key are always executed.
+     */
+    OrderDTO execute(String key, Object request, Supplier<OrderDTO> action);
+}
@@ -0,0 +1,28 @@
+package com.restaurant.ordering.Service;
+
+import java.util.Map;
+
+/**
+ * Live stock counters for menu items the kitchen has limited. Items without a counter are
+ * always available. Counters are not persisted; the kitchen sets them at the start of service.
+ */
+public interface MenuAvailabilityService {
+    // null stops tracking the item
+    void setStock(Long menuItemId, Integer quantity);
+    Integer getStock(Long menuItemId);
+    // Every tracked item and its remaining quantity
+    Map<Long, Integer> getStockLevels();
+
+    /**
+     * Changes whenever an item sells out, comes back into stock, or starts or stops being tracked,
+     * and not on other stock changes. Cheap enough to read on every menu request.
+     */
+    long getSoldOutGeneration();
+
+    /**
+     * Takes the quantities from the tracked counters, all or nothing.
+     * Throws IllegalStateException naming the first item that cannot be covered.
+     */
+    void reserve(Map<Long, Integer> quantities);
+    void release(Map<Long, Integer> quantities);
+}
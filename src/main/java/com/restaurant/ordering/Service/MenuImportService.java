@@ -0,0 +1,17 @@
+package com.restaurant.ordering.Service;
+
+import com.restaurant.ordering.DTO.MenuImportResultDTO;
+import com.restaurant.ordering.Enums.MenuImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface MenuImportService {
+    /**
+     * Upserts menu items read from UTF-8 input: CSV with a header row naming at least the name,
+     * price and category columns, or JSON objects with those fields, given as one array or one
+     * object per line. Rows carrying an id update that item; rows without one update the item with
+     * the same name or create a new one. Bad rows are reported and skipped.
+     */
+    MenuImportResultDTO importMenu(InputStream in, MenuImportFormat format) throws IOException;
+}
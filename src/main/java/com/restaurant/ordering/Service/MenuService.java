@@ -1,11 +1,23 @@
 package com.restaurant.ordering.Service;
 
+import com.restaurant.ordering.DTO.MenuSnapshot;
+import com.restaurant.ordering.Enums.MenuCategory;
 import com.restaurant.ordering.Model.MenuItem;
 import java.util.List;
 
 public interface MenuService {
     List<MenuItem> getAllMenuItems();
+    // Category lanes and the price order come from the snapshot, already sorted by price
+    List<MenuItem> getMenuItemsByCategory(MenuCategory category);
+    List<MenuItem> getMenuItemsByPrice(boolean ascending);
+    // Ranked typeahead over names and descriptions, answered from memory
+    List<MenuItem> searchMenuItems(String query, int limit);
     MenuItem addMenuItem(MenuItem item);
     MenuItem updateMenuItem(Long id, MenuItem item);
     void deleteMenuItem(Long id);
-}
\ No newline at end of file
+    String getMenuVersion();
+    // The menu and its version as one consistent pair
+    MenuSnapshot getMenuSnapshot();
+    // Reloads the menu after writes that bypassed this service, here and on the other instances
+    void refreshMenu();
+}
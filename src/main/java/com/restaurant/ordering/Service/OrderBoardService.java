@@ -0,0 +1,14 @@
+package com.restaurant.ordering.Service;
+
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.OrderStatus;
+
+import java.util.List;
+
+public interface OrderBoardService {
+    // Orders currently in the given status, oldest first, as shown on the kitchen and waiter boards
+    List<OrderDTO> getOrders(OrderStatus status);
+
+    // Changes whenever the status' list changes, or null when the board cannot tell cheaply
+    String getVersion(OrderStatus status);
+}
@@ -0,0 +1,14 @@
+package com.restaurant.ordering.Service;
+
+import com.restaurant.ordering.Enums.ExportFormat;
+import com.restaurant.ordering.Enums.OrderStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface OrderExportService {
+    // Writes orders created in [from, to) to the stream; null bounds and status mean no filter
+    void exportOrders(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                      ExportFormat format, OutputStream out) throws IOException;
+}
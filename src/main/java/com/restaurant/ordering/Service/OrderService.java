@@ -1,7 +1,9 @@
 package com.restaurant.ordering.Service;
 
 import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.DTO.OrderBatchResultDTO;
 import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.DTO.OrderPageDTO;
 import com.restaurant.ordering.Enums.OrderStatus;
 import java.util.List;
 
@@ -9,6 +11,7 @@ public interface OrderService {
 
 
     OrderDTO createOrder(CreateOrderDTO orderDTO);
+    List<OrderBatchResultDTO> createOrders(List<CreateOrderDTO> orderDTOs);
     OrderDTO updateOrderStatus(Long orderId, OrderStatus status);
     OrderDTO updateOrderItems(Long orderId, CreateOrderDTO updatedOrder);
     OrderDTO removeItemFromOrder(Long orderId, Long itemId);
@@ -16,6 +19,7 @@ public interface OrderService {
 
 
     OrderDTO getOrder(Long orderId);
+    long getOrderVersion(Long orderId);
     OrderDTO getOrderByTable(Long tableId);
     OrderStatus getOrderStatus(Long orderId);
     
@@ -23,5 +27,5 @@ public interface OrderService {
 
     List<OrderDTO> getOrdersByStatus(OrderStatus status);
     List<OrderDTO> getOrdersByTableId(Long tableId);
-    List<OrderDTO> getAllOrders();
+    OrderPageDTO getOrdersPage(String cursor, Integer limit, OrderStatus status, Long tableId);
 }
\ No newline at end of file
@@ -57,6 +57,8 @@ public class CustomerServiceImpl implements CustomerService {
 
             OrderItem orderItem = new OrderItem();
             orderItem.setMenuItem(menuItem);
+            orderItem.setItemName(menuItem.getName());
+            orderItem.setUnitPrice(menuItem.getPrice());
             orderItem.setQuantity(itemRequest.getQuantity());
             orderItem.setOrder(table.getOrders().get(0));
             orderItems.add(orderItem);
@@ -84,7 +86,7 @@ public class CustomerServiceImpl implements CustomerService {
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
         return order.getItems().stream()
-                .mapToDouble(item -> item.getMenuItem().getPrice() * item.getQuantity())
+                .mapToDouble(item -> item.getUnitPrice() * item.getQuantity())
                 .sum();
     }
 
@@ -0,0 +1,32 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Config.BoardProjectionDisabledCondition;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Service.OrderBoardService;
+import com.restaurant.ordering.Service.OrderService;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Conditional(BoardProjectionDisabledCondition.class)
+public class DatabaseOrderBoardService implements OrderBoardService {
+
+    private final OrderService orderService;
+
+    public DatabaseOrderBoardService(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @Override
+    public List<OrderDTO> getOrders(OrderStatus status) {
+        return orderService.getOrdersByStatus(status);
+    }
+
+    @Override
+    public String getVersion(OrderStatus status) {
+        return null;
+    }
+}
@@ -4,7 +4,7 @@ import com.restaurant.ordering.Enums.OrderStatus;
 import com.restaurant.ordering.Model.Order;
 import com.restaurant.ordering.Repository.OrderRepository;
 import com.restaurant.ordering.Service.KitchenStaffService;
-import jakarta.transaction.Transactional;
+import com.restaurant.ordering.Service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,28 +15,22 @@ import java.util.List;
 public class KitchenStaffServiceImpl implements KitchenStaffService {
 
     private final OrderRepository orderRepository;
+    private final OrderService orderService;
 
     @Override
     public List<Order> getIncomingOrders() {
         return orderRepository.findByStatus(OrderStatus.CREATED);
     }
 
+    // Same path as the status endpoint, so the outbox event and the Redis status go out with the change
     @Override
-    @Transactional
     public void markOrderInPreparation(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found"));
-        order.setStatus(OrderStatus.IN_PREPARATION);
-        orderRepository.save(order);
+        orderService.updateOrderStatus(orderId, OrderStatus.IN_PREPARATION);
     }
 
     @Override
-    @Transactional
     public void markOrderReady(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found"));
-        order.setStatus(OrderStatus.READY);
-        orderRepository.save(order);
+        orderService.updateOrderStatus(orderId, OrderStatus.READY);
     }
 
     @Override
@@ -0,0 +1,108 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Exception.IdempotencyKeyReusedException;
+import com.restaurant.ordering.Service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.context.annotation.Conditional;
+import com.restaurant.ordering.Config.RedisDisabledCondition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * In-process replacement for {@link RedisIdempotencyService} when Redis is disabled.
+ * A key is claimed with a pending future and the request's fingerprint before the action runs;
+ * later requests with the same fingerprint wait on that future.
+ * Holds at most {@code maxEntries} responses; the oldest entries are evicted first.
+ */
+@Service
+@Conditional(RedisDisabledCondition.class)
+public class LocalIdempotencyService implements IdempotencyService {
+
+    private record StoredResponse(String fingerprint, CompletableFuture<OrderDTO> response, long expiresAt) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long waitMillis;
+    private final Map<String, StoredResponse> responses;
+
+    public LocalIdempotencyService(
+            ObjectMapper objectMapper,
+            @Value("${ordering.idempotency.ttl-minutes:10}") long ttlMinutes,
+            @Value("${ordering.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${ordering.idempotency.wait-millis:5000}") long waitMillis) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlMinutes * 60_000;
+        this.waitMillis = waitMillis;
+        this.responses = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public OrderDTO execute(String key, Object request, Supplier<OrderDTO> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        String fingerprint = RequestFingerprint.of(objectMapper, request);
+        CompletableFuture<OrderDTO> claim = new CompletableFuture<>();
+        StoredResponse existing = claim(key, fingerprint, claim);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            return await(key, existing.response());
+        }
+        try {
+            OrderDTO response = action.get();
+            claim.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            // Free the key so the client can retry; anyone already waiting is told to do the same
+            release(key, claim);
+            claim.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private synchronized StoredResponse claim(String key, String fingerprint, CompletableFuture<OrderDTO> claim) {
+        StoredResponse stored = responses.get(key);
+        if (stored != null && stored.expiresAt() < System.currentTimeMillis()) {
+            responses.remove(key);
+        }
+        return responses.putIfAbsent(key,
+                new StoredResponse(fingerprint, claim, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private synchronized void release(String key, CompletableFuture<OrderDTO> claim) {
+        StoredResponse stored = responses.get(key);
+        if (stored != null && stored.response() == claim) {
+            responses.remove(key);
+        }
+    }
+
+    private OrderDTO await(String key, CompletableFuture<OrderDTO> pending) {
+        try {
+            return pending.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("A request with Idempotency-Key " + key + " is still in progress");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The request with Idempotency-Key " + key + " failed; retry it");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Idempotency-Key " + key);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Config.RedisDisabledCondition;
+import com.restaurant.ordering.Service.MenuAvailabilityService;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stock counters for when Redis is disabled. Each item is taken with a compare-and-set
+ * that checks the remaining stock first, so a counter never drops below zero, not even briefly.
+ */
+@Service
+@Conditional(RedisDisabledCondition.class)
+public class LocalMenuAvailabilityService implements MenuAvailabilityService {
+
+    private final Map<Long, AtomicInteger> stock = new ConcurrentHashMap<>();
+    private final AtomicLong soldOutGeneration = new AtomicLong();
+
+    @Override
+    public void setStock(Long menuItemId, Integer quantity) {
+        if (quantity == null) {
+            if (stock.remove(menuItemId) != null) {
+                soldOutGeneration.incrementAndGet();
+            }
+            return;
+        }
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Stock must not be negative");
+        }
+        stock.computeIfAbsent(menuItemId, id -> new AtomicInteger()).set(quantity);
+        soldOutGeneration.incrementAndGet();
+    }
+
+    @Override
+    public Integer getStock(Long menuItemId) {
+        AtomicInteger counter = stock.get(menuItemId);
+        return counter != null ? counter.get() : null;
+    }
+
+    @Override
+    public Map<Long, Integer> getStockLevels() {
+        Map<Long, Integer> levels = new HashMap<>();
+        stock.forEach((id, counter) -> levels.put(id, counter.get()));
+        return levels;
+    }
+
+    @Override
+    public long getSoldOutGeneration() {
+        return soldOutGeneration.get();
+    }
+
+    @Override
+    public void reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> taken = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            AtomicInteger counter = stock.get(entry.getKey());
+            if (counter == null) {
+                continue;
+            }
+            int quantity = entry.getValue();
+            int available;
+            do {
+                available = counter.get();
+                if (available < quantity) {
+                    release(taken);
+                    throw new IllegalStateException("MenuItem " + entry.getKey() + " is sold out");
+                }
+            } while (!counter.compareAndSet(available, available - quantity));
+            taken.put(entry.getKey(), quantity);
+            if (available > 0 && available == quantity) {
+                soldOutGeneration.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void release(Map<Long, Integer> quantities) {
+        quantities.forEach((id, quantity) -> {
+            AtomicInteger counter = stock.get(id);
+            if (counter != null && counter.getAndAdd(quantity) == 0 && quantity > 0) {
+                soldOutGeneration.incrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,294 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.MenuImportResultDTO;
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Enums.MenuImportFormat;
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Repository.MenuItemRepository;
+import com.restaurant.ordering.Service.MenuImportService;
+import com.restaurant.ordering.Service.MenuService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the import one row at a time and writes it in chunks, each in its own transaction. A chunk
+ * resolves its existing items with two queries and is flushed as Hibernate JDBC batches; the menu
+ * snapshot is reloaded once after the last chunk instead of once per row, and not at all when
+ * nothing was written.
+ */
+@Service
+@RequiredArgsConstructor
+public class MenuImportServiceImpl implements MenuImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("name", "price", "category");
+
+    private final MenuItemRepository menuItemRepository;
+    private final MenuService menuService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private record Row(long number, Long id, String name, String description, double price,
+                       MenuCategory category) {
+    }
+
+    private record ChunkOutcome(int created, int updated, List<MenuImportResultDTO.RowError> errors) {
+    }
+
+    @Override
+    public MenuImportResultDTO importMenu(InputStream in, MenuImportFormat format) throws IOException {
+        Importer importer = new Importer();
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            if (format == MenuImportFormat.CSV) {
+                readCsv(reader, importer);
+            } else {
+                readJson(reader, importer);
+            }
+            // Rows read before a malformed one are still written
+            importer.flush();
+        } catch (IOException e) {
+            // An upload cut off part way keeps the chunks that already committed
+            importer.publish();
+            throw e;
+        }
+        importer.publish();
+        importer.result.setMenuVersion(menuService.getMenuVersion());
+        return importer.result;
+    }
+
+    private final class Importer {
+
+        private final MenuImportResultDTO result = new MenuImportResultDTO();
+        private final List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        private boolean changed;
+
+        void accept(long number, Map<String, String> fields) {
+            try {
+                chunk.add(toRow(number, fields));
+            } catch (IllegalArgumentException e) {
+                fail(number, e.getMessage());
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void fail(long number, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new MenuImportResultDTO.RowError(number, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<Row> rows = List.copyOf(chunk);
+            chunk.clear();
+            try {
+                ChunkOutcome outcome = transactionTemplate.execute(status -> upsert(rows));
+                result.setCreated(result.getCreated() + outcome.created());
+                result.setUpdated(result.getUpdated() + outcome.updated());
+                changed |= outcome.created() + outcome.updated() > 0;
+                outcome.errors().forEach(error -> fail(error.getRow(), error.getMessage()));
+            } catch (DataAccessException | PersistenceException | TransactionException e) {
+                rows.forEach(row -> fail(row.number(), "Could not be saved: " + e.getMessage()));
+            }
+        }
+
+        // The menu is reloaded, and the change announced, once per import and only if a row was written
+        void publish() {
+            if (changed) {
+                menuService.refreshMenu();
+            }
+        }
+    }
+
+    private ChunkOutcome upsert(List<Row> rows) {
+        Set<Long> ids = rows.stream()
+                .map(Row::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> names = rows.stream()
+                .filter(row -> row.id() == null)
+                .map(Row::name)
+                .collect(Collectors.toSet());
+        Map<Long, MenuItem> byId = ids.isEmpty() ? Map.of() : menuItemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(MenuItem::getId, item -> item));
+        Map<String, List<MenuItem>> byName = names.isEmpty() ? Map.of() : menuItemRepository.findByNameIn(names).stream()
+                .collect(Collectors.groupingBy(MenuItem::getName));
+
+        int updated = 0;
+        List<MenuItem> createdItems = new ArrayList<>();
+        // A name repeated within the chunk updates the item its first row created
+        Map<String, MenuItem> createdByName = new HashMap<>();
+        List<MenuImportResultDTO.RowError> errors = new ArrayList<>();
+        for (Row row : rows) {
+            MenuItem target;
+            if (row.id() != null) {
+                target = byId.get(row.id());
+                if (target == null) {
+                    errors.add(new MenuImportResultDTO.RowError(row.number(), "No menu item with id " + row.id()));
+                    continue;
+                }
+                updated++;
+            } else {
+                List<MenuItem> matches = byName.getOrDefault(row.name(), List.of());
+                if (matches.size() > 1) {
+                    errors.add(new MenuImportResultDTO.RowError(row.number(),
+                            "Name matches " + matches.size() + " menu items; give an id"));
+                    continue;
+                }
+                target = matches.isEmpty() ? createdByName.get(row.name()) : matches.get(0);
+                if (target == null) {
+                    target = new MenuItem();
+                    createdItems.add(target);
+                    createdByName.put(row.name(), target);
+                } else {
+                    updated++;
+                }
+            }
+            target.setName(row.name());
+            target.setDescription(row.description());
+            target.setPrice(row.price());
+            target.setCategory(row.category());
+        }
+
+        // Updates are picked up by dirty checking; both go out as JDBC batches on flush
+        menuItemRepository.saveAll(createdItems);
+        entityManager.flush();
+        entityManager.clear();
+        return new ChunkOutcome(createdItems.size(), updated, errors);
+    }
+
+    private Row toRow(long number, Map<String, String> fields) {
+        Long id = null;
+        String idText = blankToNull(fields.get("id"));
+        if (idText != null) {
+            try {
+                id = Long.parseLong(idText);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("id must be a whole number");
+            }
+        }
+
+        String name = blankToNull(fields.get("name"));
+        if (name == null) {
+            throw new IllegalArgumentException("name is required");
+        }
+
+        String priceText = blankToNull(fields.get("price"));
+        double price;
+        try {
+            price = priceText != null ? Double.parseDouble(priceText) : Double.NaN;
+        } catch (NumberFormatException e) {
+            price = Double.NaN;
+        }
+        if (!Double.isFinite(price) || price < 0) {
+            throw new IllegalArgumentException("price must be a non-negative number");
+        }
+
+        String categoryText = blankToNull(fields.get("category"));
+        MenuCategory category;
+        try {
+            category = MenuCategory.valueOf(Objects.requireNonNullElse(categoryText, "").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("category must be one of " + Arrays.toString(MenuCategory.values()));
+        }
+
+        return new Row(number, id, name, blankToNull(fields.get("description")), price, category);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private void readCsv(Reader reader, Importer importer) throws IOException {
+        CsvRecordReader records = new CsvRecordReader(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = header.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+        if (!columns.containsAll(REQUIRED_COLUMNS)) {
+            throw new IllegalArgumentException("CSV header must include name, price and category");
+        }
+
+        long number = 0;
+        try {
+            List<String> record;
+            while ((record = records.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                number++;
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < columns.size() && i < record.size(); i++) {
+                    fields.put(columns.get(i), record.get(i));
+                }
+                importer.accept(number, fields);
+            }
+        } catch (CsvRecordReader.MalformedCsvException e) {
+            importer.fail(number + 1, e.getMessage());
+        }
+    }
+
+    // Accepts a top-level JSON array or a stream of objects (NDJSON), one element at a time
+    private void readJson(Reader reader, Importer importer) throws IOException {
+        // The row the parser is currently on, so a syntax error is reported against it
+        long number = 1;
+        try (JsonParser parser = objectMapper.getFactory().createParser(reader)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                if (node.isObject()) {
+                    Map<String, String> fields = new HashMap<>();
+                    node.fields().forEachRemaining(field -> fields.put(field.getKey().toLowerCase(Locale.ROOT),
+                            field.getValue().isNull() ? null : field.getValue().asText()));
+                    importer.accept(number, fields);
+                } else {
+                    importer.fail(number, "row must be a JSON object");
+                }
+                number++;
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            // Nothing after a syntax error can be trusted, so the rest of the file is skipped
+            importer.fail(number, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Model.MenuItem;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable n-gram index over menu item names and descriptions. Words are indexed by their one-
+ * and two-letter prefixes and by every trigram, so a typeahead token of any length resolves to a
+ * small candidate set that is then verified and ranked. Updates copy only the posting sets of the
+ * item that changed; readers keep using the instance they started with.
+ */
+final class MenuSearchIndex {
+
+    private record Document(MenuItem item, String name, String description, Set<String> keys) {
+    }
+
+    private record Hit(Document document, int score) {
+    }
+
+    static final MenuSearchIndex EMPTY = new MenuSearchIndex(Map.of(), Map.of());
+
+    private final Map<Long, Document> documents;
+    private final Map<String, Set<Long>> postings;
+
+    private MenuSearchIndex(Map<Long, Document> documents, Map<String, Set<Long>> postings) {
+        this.documents = documents;
+        this.postings = postings;
+    }
+
+    static MenuSearchIndex of(List<MenuItem> items) {
+        Map<Long, Document> documents = new HashMap<>();
+        Map<String, Set<Long>> postings = new HashMap<>();
+        for (MenuItem item : items) {
+            Document document = document(item);
+            documents.put(item.getId(), document);
+            for (String key : document.keys()) {
+                postings.computeIfAbsent(key, k -> new HashSet<>()).add(item.getId());
+            }
+        }
+        postings.replaceAll((key, ids) -> Set.copyOf(ids));
+        return new MenuSearchIndex(documents, postings);
+    }
+
+    /**
+     * A copy with {@code removedId} dropped and {@code added} (re)indexed; either may be null.
+     */
+    MenuSearchIndex update(Long removedId, MenuItem added) {
+        Map<Long, Document> nextDocuments = new HashMap<>(documents);
+        Map<String, Set<Long>> nextPostings = new HashMap<>(postings);
+
+        Document removed = removedId != null ? nextDocuments.remove(removedId) : null;
+        if (removed != null) {
+            for (String key : removed.keys()) {
+                Set<Long> ids = new HashSet<>(nextPostings.get(key));
+                ids.remove(removedId);
+                if (ids.isEmpty()) {
+                    nextPostings.remove(key);
+                } else {
+                    nextPostings.put(key, Set.copyOf(ids));
+                }
+            }
+        }
+        if (added != null) {
+            Document document = document(added);
+            nextDocuments.put(added.getId(), document);
+            for (String key : document.keys()) {
+                Set<Long> ids = new HashSet<>(nextPostings.getOrDefault(key, Set.of()));
+                ids.add(added.getId());
+                nextPostings.put(key, Set.copyOf(ids));
+            }
+        }
+        return new MenuSearchIndex(nextDocuments, nextPostings);
+    }
+
+    /**
+     * Items matching every word of {@code query} in their name or description, best first:
+     * name prefix matches outrank word prefix matches, which outrank matches inside a word,
+     * and name matches outrank description matches.
+     */
+    List<MenuItem> search(String query, int limit) {
+        List<String> tokens = words(normalize(query));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> candidates = null;
+        for (String token : tokens) {
+            candidates = intersect(candidates, candidatesFor(token));
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        String phrase = String.join(" ", tokens);
+        List<Hit> hits = new ArrayList<>();
+        for (Long id : candidates) {
+            Document document = documents.get(id);
+            int score = score(document, tokens, phrase);
+            if (score > 0) {
+                hits.add(new Hit(document, score));
+            }
+        }
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparingInt(hit -> hit.document().name().length())
+                .thenComparing(hit -> hit.document().name()));
+
+        return hits.stream().limit(limit).map(hit -> hit.document().item()).toList();
+    }
+
+    private Set<Long> candidatesFor(String token) {
+        if (token.length() < 3) {
+            return postings.getOrDefault("^" + token, Set.of());
+        }
+        Set<Long> candidates = null;
+        for (String gram : trigrams(token)) {
+            candidates = intersect(candidates, postings.getOrDefault(gram, Set.of()));
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    // Zero when a token only matched through trigrams that are not contiguous in the text
+    private static int score(Document document, List<String> tokens, String phrase) {
+        int score = document.name().startsWith(phrase) ? 100 : 0;
+        for (String token : tokens) {
+            if (startsWord(document.name(), token)) {
+                score += 20;
+            } else if (document.name().contains(token)) {
+                score += 10;
+            } else if (startsWord(document.description(), token)) {
+                score += 4;
+            } else if (document.description().contains(token)) {
+                score += 2;
+            } else {
+                return 0;
+            }
+        }
+        return score;
+    }
+
+    private static boolean startsWord(String text, String token) {
+        int at = text.indexOf(token);
+        while (at >= 0) {
+            if (at == 0 || text.charAt(at - 1) == ' ') {
+                return true;
+            }
+            at = text.indexOf(token, at + 1);
+        }
+        return false;
+    }
+
+    private static Set<Long> intersect(Set<Long> current, Set<Long> next) {
+        if (current == null) {
+            return next;
+        }
+        Set<Long> smaller = current.size() <= next.size() ? current : next;
+        Set<Long> larger = smaller == current ? next : current;
+        Set<Long> result = new HashSet<>();
+        for (Long id : smaller) {
+            if (larger.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static Document document(MenuItem item) {
+        String name = normalize(item.getName());
+        String description = normalize(item.getDescription());
+        Set<String> keys = new LinkedHashSet<>();
+        for (String word : words(name + " " + description)) {
+            keys.add("^" + word.substring(0, 1));
+            if (word.length() >= 2) {
+                keys.add("^" + word.substring(0, 2));
+            }
+            keys.addAll(trigrams(word));
+        }
+        return new Document(item, name, description, keys);
+    }
+
+    private static List<String> trigrams(String word) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            grams.add(word.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        return Arrays.stream(text.split(" ")).filter(word -> !word.isEmpty()).toList();
+    }
+
+    /**
+     * Lower-cased, accents stripped and punctuation folded to single spaces, so "Crème Brûlée"
+     * and "creme brulee" index identically.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase();
+        return folded.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
@@ -1,28 +1,138 @@
 package com.restaurant.ordering.ServiceImpl;
 
+import com.restaurant.ordering.Config.RabbitMQConfig;
+import com.restaurant.ordering.DTO.MenuSnapshot;
+import com.restaurant.ordering.Enums.MenuCategory;
 import com.restaurant.ordering.Model.MenuItem;
 import com.restaurant.ordering.Repository.MenuItemRepository;
 import com.restaurant.ordering.Service.MenuService;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
+/**
+ * Serves every menu read from an immutable {@link MenuSnapshot} and its search index. Both are
+ * loaded on first use and replaced together with a copy-on-write swap after each write, so
+ * readers never lock or query.
+ * <p>
+ * Each instance holds its own copy, so every committed change is announced on the menu fanout
+ * exchange and the other instances reload from the primary when they hear of it.
+ */
 @Service
 public class MenuServiceImpl implements MenuService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MenuServiceImpl.class);
+
     @Autowired
     private MenuItemRepository menuItemRepository;
 
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final int MAX_SEARCH_RESULTS = 50;
+
+    // Lets an instance skip the announcement of its own change
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // The start time keeps versions from repeating across restarts
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong menuVersion = new AtomicLong();
+    private final AtomicReference<Menu> menu = new AtomicReference<>();
+
+    private record Menu(MenuSnapshot snapshot, MenuSearchIndex searchIndex) {
+    }
+
+    @Override
+    public MenuSnapshot getMenuSnapshot() {
+        return current().snapshot();
+    }
+
+    @Override
+    public String getMenuVersion() {
+        return getMenuSnapshot().version();
+    }
+
     @Override
     public List<MenuItem> getAllMenuItems() {
-        return menuItemRepository.findAll();
+        return getMenuSnapshot().items();
+    }
+
+    @Override
+    public List<MenuItem> getMenuItemsByCategory(MenuCategory category) {
+        return getMenuSnapshot().byCategory(category);
+    }
+
+    @Override
+    public List<MenuItem> getMenuItemsByPrice(boolean ascending) {
+        return getMenuSnapshot().byPrice(ascending);
+    }
+
+    @Override
+    public List<MenuItem> searchMenuItems(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return current().searchIndex().search(query, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
+
+    @Override
+    public void refreshMenu() {
+        menu.set(load());
+        announceChange();
+    }
+
+    // Runs in a read-write transaction so the reload goes to the primary, not a lagging replica
+    @RabbitListener(queues = "#{menuChangeQueue.name}")
+    @Transactional
+    public void onMenuChanged(String origin) {
+        if (instanceId.equals(origin)) {
+            return;
+        }
+        // The second-level and query caches are per instance and still hold the old rows
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        cache.evictEntityData(MenuItem.class);
+        cache.evictDefaultQueryRegion();
+        menu.set(load());
+    }
+
+    private void announceChange() {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.MENU_EXCHANGE, "", instanceId);
+        } catch (AmqpException e) {
+            logger.warn("Menu change not announced, other instances keep their menu until the next one: {}",
+                    e.getMessage());
+        }
     }
 
     @Override
     public MenuItem addMenuItem(MenuItem item) {
-        return menuItemRepository.save(item);
+        // Loaded before the write so a first read racing with it cannot install a pre-write menu
+        current();
+        MenuItem saved = menuItemRepository.save(item);
+        publish(saved.getId(), saved);
+        return saved;
     }
 
     @Override
@@ -30,8 +140,11 @@ public class MenuServiceImpl implements MenuService {
         if (!menuItemRepository.existsById(id)) {
             throw new NoSuchElementException("Menu item with id " + id + " not found");
         }
+        current();
         item.setId(id);
-        return menuItemRepository.save(item);
+        MenuItem saved = menuItemRepository.save(item);
+        publish(id, saved);
+        return saved;
     }
 
     @Override
@@ -39,6 +152,58 @@ public class MenuServiceImpl implements MenuService {
         if (!menuItemRepository.existsById(id)) {
             throw new NoSuchElementException("Menu item with id " + id + " not found");
         }
+        current();
         menuItemRepository.deleteById(id);
+        publish(id, null);
+    }
+
+    private Menu current() {
+        Menu current = menu.get();
+        if (current != null) {
+            return current;
+        }
+        Menu loaded = load();
+        // A concurrent loader or writer may have got there first; theirs is at least as fresh
+        return menu.compareAndSet(null, loaded) ? loaded : menu.get();
+    }
+
+    private Menu load() {
+        List<MenuItem> items = menuItemRepository.findAll();
+        return new Menu(MenuSnapshot.of(nextVersion(), items), MenuSearchIndex.of(items));
+    }
+
+    private String nextVersion() {
+        return epoch + "-" + menuVersion.incrementAndGet();
+    }
+
+    /**
+     * Swaps in a menu with {@code removedId} dropped and {@code saved} added; either may be null.
+     * Only the changed item is re-indexed. Inside a caller's transaction the swap waits for the
+     * commit, so a rolled-back write never becomes visible to readers.
+     */
+    private void publish(Long removedId, MenuItem saved) {
+        UnaryOperator<Menu> apply = current -> {
+            List<MenuItem> items = new ArrayList<>(current.snapshot().items());
+            if (removedId != null) {
+                items.removeIf(existing -> existing.getId().equals(removedId));
+            }
+            if (saved != null) {
+                items.add(saved);
+            }
+            return new Menu(MenuSnapshot.of(nextVersion(), items),
+                    current.searchIndex().update(removedId, saved));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    menu.updateAndGet(apply);
+                    announceChange();
+                }
+            });
+        } else {
+            menu.updateAndGet(apply);
+            announceChange();
+        }
     }
-}
\ No newline at end of file
+}
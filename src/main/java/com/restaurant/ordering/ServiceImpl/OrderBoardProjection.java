@@ -0,0 +1,148 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Config.BoardProjectionEnabledCondition;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Service.OrderBoardService;
+import com.restaurant.ordering.Service.OrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of open orders per status, kept current from order events and rebuilt from the
+ * database at startup. Board reads copy one lane and never touch the database.
+ * <p>
+ * Events can arrive late or twice (outbox redelivery, retries), and the startup rebuild races with
+ * live events, so a copy whose order version is not newer than the one on the board is ignored.
+ * Copies without a version fall back to never moving an order back to an earlier status. Closed
+ * orders are remembered for a while to ignore stragglers.
+ */
+@Service
+@Conditional(BoardProjectionEnabledCondition.class)
+public class OrderBoardProjection implements OrderBoardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderBoardProjection.class);
+    private static final int MAX_CLOSED_REMEMBERED = 10_000;
+
+    private final OrderService orderService;
+
+    private final Map<OrderStatus, ConcurrentSkipListMap<BoardKey, OrderDTO>> lanes = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, AtomicLong> laneVersions = new EnumMap<>(OrderStatus.class);
+    // Counters restart with the process, so versions are qualified by the start time
+    private final long epoch = System.currentTimeMillis();
+
+    // Writer-side bookkeeping, guarded by this
+    private final Map<Long, Placement> placements = new HashMap<>();
+    private final Map<Long, Boolean> closed = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > MAX_CLOSED_REMEMBERED;
+        }
+    };
+
+    public OrderBoardProjection(OrderService orderService) {
+        this.orderService = orderService;
+        for (OrderStatus status : OrderStatus.activeStatuses()) {
+            lanes.put(status, new ConcurrentSkipListMap<>());
+            laneVersions.put(status, new AtomicLong());
+        }
+    }
+
+    @Override
+    public List<OrderDTO> getOrders(OrderStatus status) {
+        ConcurrentSkipListMap<BoardKey, OrderDTO> lane = lanes.get(status);
+        return lane == null ? List.of() : new ArrayList<>(lane.values());
+    }
+
+    @Override
+    public String getVersion(OrderStatus status) {
+        AtomicLong version = laneVersions.get(status);
+        return epoch + "-" + (version == null ? 0 : version.get());
+    }
+
+    // Bound to a queue of this instance's own, so every instance sees every event
+    @RabbitListener(queues = "#{orderBoardQueue.name}")
+    public void onOrderEvent(OrderDTO order) {
+        apply(order);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = 0;
+        for (OrderStatus status : OrderStatus.activeStatuses()) {
+            for (OrderDTO order : orderService.getOrdersByStatus(status)) {
+                apply(order);
+                loaded++;
+            }
+        }
+        logger.info("Order board rebuilt with {} open orders", loaded);
+    }
+
+    synchronized void apply(OrderDTO order) {
+        Long id = order.getId();
+        if (id == null || order.getStatus() == null || closed.containsKey(id)) {
+            return;
+        }
+
+        Placement previous = placements.get(id);
+        if (previous != null && isStale(order, previous)) {
+            return;
+        }
+        if (previous != null) {
+            lanes.get(previous.status()).remove(previous.key());
+            laneVersions.get(previous.status()).incrementAndGet();
+        }
+
+        if (order.getStatus().isClosed()) {
+            placements.remove(id);
+            closed.put(id, Boolean.TRUE);
+            return;
+        }
+
+        BoardKey key = new BoardKey(order.getCreatedAt(), id);
+        lanes.get(order.getStatus()).put(key, order);
+        placements.put(id, new Placement(order.getStatus(), key, order.getVersion()));
+        // Bumped after the lane changed so a reader never pairs the new version with old contents
+        laneVersions.get(order.getStatus()).incrementAndGet();
+    }
+
+    private static boolean isStale(OrderDTO order, Placement previous) {
+        if (order.getVersion() != null && previous.version() != null) {
+            // Every write to the order row bumps its version, including item edits within one status
+            return order.getVersion() <= previous.version();
+        }
+        // Statuses only move forward (see OrderStatus#getAllowedPredecessors), so a lower one is stale
+        return order.getStatus().ordinal() < previous.status().ordinal();
+    }
+
+    private record Placement(OrderStatus status, BoardKey key, Long version) {
+    }
+
+    private record BoardKey(LocalDateTime createdAt, Long id) implements Comparable<BoardKey> {
+
+        private static final Comparator<BoardKey> ORDER = Comparator
+                .comparing(BoardKey::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(BoardKey::id);
+
+        @Override
+        public int compareTo(BoardKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Config.RabbitMQConfig;
+import com.restaurant.ordering.DTO.OrderDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes order events without waiting for each broker confirm.
+ * Up to {@code confirmWindow} messages may be unconfirmed at once; callers block only when the window is full,
+ * and for at most {@code confirmTimeoutMs} before the event is reported as not sent.
+ * Nacked messages are re-sent up to {@code maxRetries} times before they are reported as failed.
+ */
+@Service
+public class OrderEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventPublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final int confirmWindow;
+    private final int maxRetries;
+    private final long confirmTimeoutMs;
+    private final Semaphore window;
+
+    // Confirms arrive on the connection thread, which must not publish; retries are sent from here
+    private final ExecutorService retryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-event-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+
+    public OrderEventPublisher(
+            RabbitTemplate rabbitTemplate,
+            @Value("${ordering.events.confirm-window:256}") int confirmWindow,
+            @Value("${ordering.events.max-retries:3}") int maxRetries,
+            @Value("${ordering.events.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmWindow = confirmWindow;
+        this.maxRetries = maxRetries;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.window = new Semaphore(confirmWindow);
+    }
+
+    /**
+     * Sends the event and returns a future that completes with {@code true} once the broker acked it,
+     * or {@code false} when it was nacked after all retries, could not be sent at all, or the window
+     * stayed full for longer than the confirm timeout.
+     */
+    public CompletableFuture<Boolean> publish(OrderDTO message) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        try {
+            if (!window.tryAcquire(confirmTimeoutMs, TimeUnit.MILLISECONDS)) {
+                // Confirms have stopped coming back; the caller keeps the event and tries again later
+                failed.incrementAndGet();
+                logger.warn("Order event {} not sent: {} events still awaiting broker confirms",
+                        message.getId(), confirmWindow);
+                result.complete(false);
+                return result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.complete(false);
+            return result;
+        }
+        send(message, 0, result);
+        return result;
+    }
+
+    private void send(OrderDTO message, int attempt, CompletableFuture<Boolean> result) {
+        CorrelationData correlation = new CorrelationData(message.getId() + ":" + UUID.randomUUID());
+        correlation.getFuture().whenCompleteAsync((confirm, error) -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (error == null && confirm.isAck()) {
+                confirmed.incrementAndGet();
+                finish(result, true);
+            } else if (attempt < maxRetries) {
+                retried.incrementAndGet();
+                send(message, attempt + 1, result);
+            } else {
+                failed.incrementAndGet();
+                logger.warn("Order event {} was not confirmed after {} attempts: {}",
+                        message.getId(), attempt + 1, error != null ? error.getMessage() : confirm.getReason());
+                finish(result, false);
+            }
+        }, retryExecutor);
+
+        try {
+            rabbitTemplate.convertAndSend(
+                RabbitMQConfig.ORDER_EXCHANGE,
+                RabbitMQConfig.ORDER_ROUTING_KEY,
+                message,
+                correlation
+            );
+        } catch (AmqpException e) {
+            // No connection: retrying in-line would only stall the window, the caller decides when to try again
+            failed.incrementAndGet();
+            logger.warn("Could not publish order event {}: {}", message.getId(), e.getMessage());
+            finish(result, false);
+        }
+    }
+
+    private void finish(CompletableFuture<Boolean> result, boolean ok) {
+        if (result.complete(ok)) {
+            window.release();
+        }
+    }
+
+    public long getInFlightCount() {
+        return confirmWindow - window.availablePermits();
+    }
+
+    public long getConfirmedCount() {
+        return confirmed.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getRetriedCount() {
+        return retried.get();
+    }
+
+    public Map<String, Long> getStats() {
+        return Map.of(
+            "inFlight", getInFlightCount(),
+            "confirmed", getConfirmedCount(),
+            "failed", getFailedCount(),
+            "retried", getRetriedCount()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryExecutor.shutdown();
+    }
+}
@@ -0,0 +1,130 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.DTO.OrderLineView;
+import com.restaurant.ordering.Enums.ExportFormat;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Repository.OrderRepository;
+import com.restaurant.ordering.Service.OrderExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Streams order history straight from a forward-only cursor to the response. Rows are flat
+ * projections, so nothing is kept in the persistence context and only the order currently
+ * being written is held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    static final String CSV_HEADER =
+            "order_id,table_id,status,created_at,total,menu_item_id,item_name,quantity,unit_price";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                             ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<OrderLineView> rows = orderRepository.streamLineViewsForExport(from, to, status)) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(rows.iterator(), writer);
+            } else {
+                writeNdjson(rows.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Iterator<OrderLineView> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            OrderLineView row = rows.next();
+            writer.write(String.join(",",
+                    String.valueOf(row.orderId()),
+                    String.valueOf(row.tableId()),
+                    String.valueOf(row.status()),
+                    String.valueOf(row.createdAt()),
+                    String.valueOf(row.total()),
+                    Objects.toString(row.menuItemId(), ""),
+                    csvField(row.itemName()),
+                    Objects.toString(row.quantity(), ""),
+                    Objects.toString(row.unitPrice(), "")));
+            writer.write('\n');
+        }
+    }
+
+    // Rows arrive ordered by order id, so an order is complete once the next id shows up
+    private void writeNdjson(Iterator<OrderLineView> rows, Writer writer) throws IOException {
+        OrderDTO current = null;
+        while (rows.hasNext()) {
+            OrderLineView row = rows.next();
+            if (current == null || !current.getId().equals(row.orderId())) {
+                if (current != null) {
+                    writeJsonLine(current, writer);
+                }
+                current = header(row);
+            }
+            if (row.quantity() != null) {
+                current.getItems().add(item(row));
+            }
+        }
+        if (current != null) {
+            writeJsonLine(current, writer);
+        }
+    }
+
+    private void writeJsonLine(OrderDTO order, Writer writer) throws IOException {
+        writer.write(objectMapper.writeValueAsString(order));
+        writer.write('\n');
+    }
+
+    private OrderDTO header(OrderLineView row) {
+        OrderDTO dto = new OrderDTO();
+        dto.setId(row.orderId());
+        dto.setTableId(row.tableId());
+        dto.setStatus(row.status());
+        dto.setCreatedAt(row.createdAt());
+        dto.setTotalAmount(row.total());
+        dto.setVersion(row.version());
+        dto.setItems(new ArrayList<>());
+        return dto;
+    }
+
+    private OrderDTO.OrderItemDTO item(OrderLineView row) {
+        OrderDTO.OrderItemDTO itemDTO = new OrderDTO.OrderItemDTO();
+        itemDTO.setMenuItemId(row.menuItemId());
+        itemDTO.setItemName(row.itemName());
+        itemDTO.setQuantity(row.quantity());
+        itemDTO.setPrice(row.unitPrice());
+        return itemDTO;
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
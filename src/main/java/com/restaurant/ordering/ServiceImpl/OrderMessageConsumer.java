@@ -73,7 +73,7 @@ public class OrderMessageConsumer {
 
         order.getItems().forEach(item -> 
             logger.info("Item: {} x{}", 
-                item.getMenuItem().getName(),
+                item.getItemName(),
                 item.getQuantity())
         );
     }
@@ -112,7 +112,7 @@ public class OrderMessageConsumer {
 
         order.getItems().forEach(item -> 
             logger.info("Ready for delivery - Item: {} x{}", 
-                item.getMenuItem().getName(),
+                item.getItemName(),
                 item.getQuantity())
         );
     }
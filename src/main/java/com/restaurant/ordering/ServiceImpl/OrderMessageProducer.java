@@ -1,28 +1,61 @@
 package com.restaurant.ordering.ServiceImpl;
 
-import com.restaurant.ordering.Config.RabbitMQConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.ordering.DTO.OrderDTO;
 import com.restaurant.ordering.Model.Order;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import com.restaurant.ordering.Model.OrderOutboxEvent;
+import com.restaurant.ordering.Repository.OrderOutboxRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Records order events in the outbox table as part of the caller's transaction.
+ * Nothing is sent to the broker here; {@link OrderOutboxRelay} publishes the rows after commit,
+ * so a rolled back order never produces an event and broker latency stays out of the request.
+ */
 @Service
 public class OrderMessageProducer {
     
-    private final RabbitTemplate rabbitTemplate;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
     
-    public OrderMessageProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public OrderMessageProducer(OrderOutboxRepository orderOutboxRepository, ObjectMapper objectMapper) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.objectMapper = objectMapper;
     }
     
+    // Pending changes to the orders are flushed first so each event carries the version it commits
+    // with; the outbox rows are flushed after, so a failed insert surfaces in the caller, not at commit
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendOrder(Order order) {
+        orderOutboxRepository.flush();
+        orderOutboxRepository.save(toOutboxEvent(order));
+        orderOutboxRepository.flush();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrders(List<Order> orders) {
+        orderOutboxRepository.flush();
+        orderOutboxRepository.saveAll(orders.stream()
+            .map(this::toOutboxEvent)
+            .collect(Collectors.toList()));
+        orderOutboxRepository.flush();
+    }
+
+    private OrderOutboxEvent toOutboxEvent(Order order) {
         OrderDTO message = convertToDTO(order);
-        rabbitTemplate.convertAndSend(
-            RabbitMQConfig.ORDER_EXCHANGE,
-            RabbitMQConfig.ORDER_ROUTING_KEY,
-            message
-        );
+        try {
+            return OrderOutboxEvent.builder()
+                .orderId(order.getId())
+                .payload(objectMapper.writeValueAsString(message))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event for order " + order.getId(), e);
+        }
     }
     
     private OrderDTO convertToDTO(Order order) {
@@ -32,18 +65,19 @@ public class OrderMessageProducer {
         dto.setStatus(order.getStatus());
         dto.setCreatedAt(order.getCreatedAt());
         dto.setTotalAmount(order.getTotal());
+        dto.setVersion(order.getVersion());
         
         dto.setItems(order.getItems().stream()
             .map(item -> {
                 OrderDTO.OrderItemDTO itemDTO = new OrderDTO.OrderItemDTO();
                 itemDTO.setMenuItemId(item.getMenuItem().getId());
-                itemDTO.setItemName(item.getMenuItem().getName());
+                itemDTO.setItemName(item.getItemName());
                 itemDTO.setQuantity(item.getQuantity());
-                itemDTO.setPrice(item.getMenuItem().getPrice());
+                itemDTO.setPrice(item.getUnitPrice());
                 return itemDTO;
             })
             .collect(Collectors.toList()));
             
         return dto;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Model.OrderOutboxEvent;
+import com.restaurant.ordering.Repository.OrderOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the order outbox to RabbitMQ in batches.
+ * Rows are deleted only after the broker confirmed them, so delivery is at-least-once:
+ * a crash or a missing confirm re-sends the event on a later run.
+ * No transaction is held while waiting for confirms: the batch is read in one short read-only
+ * transaction and the confirmed ids are deleted in another.
+ */
+@Service
+public class OrderOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+
+    public OrderOutboxRelay(
+            OrderOutboxRepository orderOutboxRepository,
+            OrderEventPublisher orderEventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${ordering.outbox.batch-size:100}") int batchSize,
+            @Value("${ordering.events.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderEventPublisher = orderEventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${ordering.outbox.drain-interval-ms:500}")
+    public void drain() {
+        List<OrderOutboxEvent> batch = orderOutboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Long> done = new ArrayList<>();
+        Map<OrderOutboxEvent, CompletableFuture<Boolean>> pending = new LinkedHashMap<>();
+        for (OrderOutboxEvent event : batch) {
+            OrderDTO message;
+            try {
+                message = objectMapper.readValue(event.getPayload(), OrderDTO.class);
+            } catch (JsonProcessingException e) {
+                // A payload that cannot be read will never succeed, drop it instead of blocking the outbox
+                logger.error("Discarding unreadable outbox event {} for order {}", event.getId(), event.getOrderId(), e);
+                done.add(event.getId());
+                continue;
+            }
+
+            CompletableFuture<Boolean> confirm = orderEventPublisher.publish(message);
+            pending.put(event, confirm);
+            if (confirm.isDone() && !confirm.join()) {
+                // Broker unreachable, leave the rest of the batch for the next run
+                break;
+            }
+        }
+
+        awaitConfirms(pending.values());
+        pending.forEach((event, confirm) -> {
+            if (Boolean.TRUE.equals(confirm.getNow(false))) {
+                done.add(event.getId());
+            }
+        });
+
+        orderOutboxRepository.deleteAllByIdInBatch(done);
+        if (done.size() < batch.size()) {
+            logger.warn("{} outbox events left pending for the next run", batch.size() - done.size());
+        }
+    }
+
+    private void awaitConfirms(Collection<CompletableFuture<Boolean>> confirms) {
+        try {
+            CompletableFuture.allOf(confirms.toArray(new CompletableFuture[0])).get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Timed out waiting for broker confirms, unconfirmed events will be re-sent");
+        } catch (ExecutionException e) {
+            logger.warn("Error waiting for broker confirms: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,26 +1,51 @@
 package com.restaurant.ordering.ServiceImpl;
 
 import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.DTO.OrderBatchResultDTO;
 import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.DTO.OrderLineView;
+import com.restaurant.ordering.DTO.OrderPageDTO;
 import com.restaurant.ordering.Enums.OrderStatus;
 import com.restaurant.ordering.Model.*;
 import com.restaurant.ordering.Repository.*;
+import com.restaurant.ordering.Service.MenuAvailabilityService;
 import com.restaurant.ordering.Service.OrderService;
 import com.restaurant.ordering.Service.RedisOrderService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderServiceImpl implements OrderService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
     private final OrderRepository orderRepository;
     private final TableItemRepository tableItemRepository;
     private final MenuItemRepository menuItemRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderMessageProducer orderMessageProducer;
     private final RedisOrderService redisOrderService;
+    private final MenuAvailabilityService menuAvailabilityService;
     
     public OrderServiceImpl(
             OrderRepository orderRepository,
@@ -28,13 +53,15 @@ public class OrderServiceImpl implements OrderService {
             MenuItemRepository menuItemRepository,
             OrderItemRepository orderItemRepository,
             OrderMessageProducer orderMessageProducer,
-            RedisOrderService redisOrderService) {
+            RedisOrderService redisOrderService,
+            MenuAvailabilityService menuAvailabilityService) {
         this.orderRepository = orderRepository;
         this.tableItemRepository = tableItemRepository;
         this.menuItemRepository = menuItemRepository;
         this.orderItemRepository = orderItemRepository;
         this.orderMessageProducer = orderMessageProducer;
         this.redisOrderService = redisOrderService;
+        this.menuAvailabilityService = menuAvailabilityService;
     }
     
     @Override
@@ -42,35 +69,12 @@ public class OrderServiceImpl implements OrderService {
     public OrderDTO createOrder(CreateOrderDTO orderDTO) {
         TableItem table = tableItemRepository.findByTableId(orderDTO.getTableId())
             .orElseThrow(() -> new RuntimeException("Table not found"));
-            
-        Order order = new Order();
-        order.setTable(table);
-        order.setStatus(OrderStatus.CREATED);
-        
-        Order savedOrder = orderRepository.save(order);
-        
-        List<OrderItem> orderItems = orderDTO.getItems().stream()
-            .map(itemDTO -> {
-                MenuItem menuItem = menuItemRepository.findById(itemDTO.getMenuItemId())
-                    .orElseThrow(() -> new RuntimeException("MenuItem not found"));
-                    
-                OrderItem orderItem = new OrderItem();
-                orderItem.setOrder(savedOrder);
-                orderItem.setMenuItem(menuItem);
-                orderItem.setQuantity(itemDTO.getQuantity());
-                return orderItem;
-            })
-            .collect(Collectors.toList());
-            
-        orderItemRepository.saveAll(orderItems);
-        savedOrder.setItems(orderItems);
-        
 
-        double total = orderItems.stream()
-            .mapToDouble(item -> item.getMenuItem().getPrice() * item.getQuantity())
-            .sum();
-        savedOrder.setTotal(total);
-        orderRepository.save(savedOrder);
+        Map<Long, MenuItem> menuItems = resolveMenuItems(orderDTO.getItems());
+        Order order = buildOrder(table, orderDTO.getItems(), menuItems);
+        reserveStock(quantities(order.getItems()));
+
+        Order savedOrder = orderRepository.save(order);
 
         redisOrderService.saveOrderStatus(savedOrder.getId(), savedOrder.getStatus());
         redisOrderService.saveOrderSession(table.getId(), savedOrder.getId());
@@ -79,17 +83,89 @@ public class OrderServiceImpl implements OrderService {
         
         return convertToDTO(savedOrder);
     }
+
+    @Override
+    @Transactional
+    public List<OrderBatchResultDTO> createOrders(List<CreateOrderDTO> orderDTOs) {
+        if (orderDTOs == null || orderDTOs.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+
+        // Resolve every table and menu item referenced by the batch up front
+        Set<Long> tableIds = orderDTOs.stream()
+            .map(CreateOrderDTO::getTableId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, TableItem> tables = tableIds.isEmpty() ? Map.of() : tableItemRepository.findByTableIdIn(tableIds).stream()
+            .collect(Collectors.toMap(TableItem::getTableId, Function.identity(), (first, second) -> first));
+
+        Set<Long> menuItemIds = orderDTOs.stream()
+            .filter(orderDTO -> orderDTO.getItems() != null)
+            .flatMap(orderDTO -> orderDTO.getItems().stream())
+            .map(CreateOrderDTO.OrderItemRequest::getMenuItemId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, MenuItem> menuItems = loadMenuItems(menuItemIds);
+
+        OrderBatchResultDTO[] results = new OrderBatchResultDTO[orderDTOs.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+        for (int i = 0; i < orderDTOs.size(); i++) {
+            CreateOrderDTO orderDTO = orderDTOs.get(i);
+            try {
+                TableItem table = tables.get(orderDTO.getTableId());
+                if (table == null) {
+                    throw new NoSuchElementException("Table not found: " + orderDTO.getTableId());
+                }
+                if (orderDTO.getItems() == null || orderDTO.getItems().isEmpty()) {
+                    throw new IllegalArgumentException("Order must contain at least one item");
+                }
+                List<Long> unknownIds = findUnknownIds(collectMenuItemIds(orderDTO.getItems()), menuItems);
+                if (!unknownIds.isEmpty()) {
+                    throw new NoSuchElementException("MenuItem not found: " + unknownIds);
+                }
+                Order order = buildOrder(table, orderDTO.getItems(), menuItems);
+                reserveStock(quantities(order.getItems()));
+                orders.add(order);
+                orderIndexes.add(i);
+            } catch (NoSuchElementException | IllegalArgumentException | IllegalStateException e) {
+                results[i] = OrderBatchResultDTO.failure(i, orderDTO.getTableId(), e.getMessage());
+            }
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        orderMessageProducer.sendOrders(savedOrders);
+
+        for (int j = 0; j < savedOrders.size(); j++) {
+            Order savedOrder = savedOrders.get(j);
+            redisOrderService.saveOrderStatus(savedOrder.getId(), savedOrder.getStatus());
+            redisOrderService.saveOrderSession(savedOrder.getTable().getId(), savedOrder.getId());
+            int index = orderIndexes.get(j);
+            results[index] = OrderBatchResultDTO.success(index, convertToDTO(savedOrder));
+        }
+        return Arrays.asList(results);
+    }
     
     @Override
     @Transactional
     public OrderDTO updateOrderStatus(Long orderId, OrderStatus status) {
-        Order order = orderRepository.findById(orderId)
+        if (!orderRepository.transitionStatus(orderId, status)) {
+            OrderStatus current = orderRepository.findStatusById(orderId)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+            throw new IllegalStateException("Order " + orderId + " cannot move from " + current + " to " + status);
+        }
+
+        // Read back after the conditional update for the response and the outbox event
+        Order savedOrder = orderRepository.findById(orderId)
             .orElseThrow(() -> new RuntimeException("Order not found"));
-            
-        order.setStatus(status);
-        Order savedOrder = orderRepository.save(order);
 
         redisOrderService.saveOrderStatus(savedOrder.getId(), savedOrder.getStatus());
+        if (status.isClosed()) {
+            redisOrderService.removeOrderSession(savedOrder.getTable().getId());
+        }
+        if (status == OrderStatus.CANCELLED) {
+            releaseStockAfterCommit(quantities(savedOrder.getItems()));
+        }
 
         orderMessageProducer.sendOrder(savedOrder);
         
@@ -101,26 +177,11 @@ public class OrderServiceImpl implements OrderService {
     public OrderDTO updateOrderItems(Long orderId, CreateOrderDTO updatedOrder) {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new RuntimeException("Order not found"));
-            
+        requireOpen(order);
 
-        orderItemRepository.deleteAll(order.getItems());
-        
-
-        List<OrderItem> orderItems = updatedOrder.getItems().stream()
-            .map(itemDTO -> {
-                MenuItem menuItem = menuItemRepository.findById(itemDTO.getMenuItemId())
-                    .orElseThrow(() -> new RuntimeException("MenuItem not found"));
-                    
-                OrderItem orderItem = new OrderItem();
-                orderItem.setOrder(order);
-                orderItem.setMenuItem(menuItem);
-                orderItem.setQuantity(itemDTO.getQuantity());
-                return orderItem;
-            })
-            .collect(Collectors.toList());
-            
-        orderItemRepository.saveAll(orderItems);
-        order.setItems(orderItems);
+        Map<Long, Integer> before = quantities(order.getItems());
+        applyItemChanges(order, updatedOrder.getItems());
+        adjustStock(before, quantities(order.getItems()));
         
         Order savedOrder = orderRepository.save(order);
 
@@ -136,6 +197,7 @@ public class OrderServiceImpl implements OrderService {
     public OrderDTO removeItemFromOrder(Long orderId, Long itemId) {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new RuntimeException("Order not found"));
+        requireOpen(order);
             
         OrderItem itemToRemove = order.getItems().stream()
             .filter(item -> item.getId().equals(itemId))
@@ -144,6 +206,8 @@ public class OrderServiceImpl implements OrderService {
             
         order.getItems().remove(itemToRemove);
         orderItemRepository.delete(itemToRemove);
+        order.setTotal(order.getTotal() - lineTotal(itemToRemove));
+        releaseStockAfterCommit(quantities(List.of(itemToRemove)));
         
         Order savedOrder = orderRepository.save(order);
         
@@ -156,23 +220,48 @@ public class OrderServiceImpl implements OrderService {
         return convertToDTO(savedOrder);
     }
     
+    // A closed order's stock is settled (released on cancel) and its total is final
+    private void requireOpen(Order order) {
+        if (order.getStatus().isClosed()) {
+            throw new IllegalStateException("Order " + order.getId() + " is " + order.getStatus() + " and can no longer be changed");
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderDTO getOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        return assembleViews(orderRepository.findLineViewsById(orderId)).stream()
+            .findFirst()
             .orElseThrow(() -> new RuntimeException("Order not found"));
-        return convertToDTO(order);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public long getOrderVersion(Long orderId) {
+        return orderRepository.findVersionById(orderId)
+            .orElseThrow(() -> new RuntimeException("Order not found"));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderDTO getOrderByTable(Long tableId) {
-        List<Order> orders = orderRepository.findByTableId(tableId);
-        Order activeOrder = orders.stream()
-            .filter(order -> order.getStatus() != OrderStatus.DELIVERED)
+        Long sessionOrderId = redisOrderService.getOrderSession(tableId);
+        if (sessionOrderId != null) {
+            List<OrderDTO> sessionOrder = assembleViews(orderRepository.findLineViewsById(sessionOrderId));
+            if (!sessionOrder.isEmpty() && !sessionOrder.get(0).getStatus().isClosed()) {
+                return sessionOrder.get(0);
+            }
+            // Stale session, e.g. the order was closed while Redis was unreachable
+            redisOrderService.removeOrderSession(tableId);
+        }
+
+        Long activeOrderId = orderRepository
+            .findLatestIdsByTableAndStatus(tableId, OrderStatus.activeStatuses(), PageRequest.of(0, 1))
+            .stream()
             .findFirst()
             .orElseThrow(() -> new RuntimeException("No active order found for table"));
-        return convertToDTO(activeOrder);
+        redisOrderService.saveOrderSession(tableId, activeOrderId);
+        return getOrder(activeOrderId);
     }
     
     @Override
@@ -195,47 +284,323 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<OrderDTO> getOrdersByStatus(OrderStatus status) {
-        return orderRepository.findByStatus(status).stream()
-            .<OrderDTO>map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return assembleViews(orderRepository.findLineViewsByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderDTO> getOrdersByTableId(Long tableId) {
-        return orderRepository.findByTableId(tableId).stream()
-            .<OrderDTO>map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return assembleViews(orderRepository.findLineViewsByTableId(tableId));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderDTO> getAllOrders() {
-        return orderRepository.findAll().stream()
+    public OrderPageDTO getOrdersPage(String cursor, Integer limit, OrderStatus status, Long tableId) {
+        int pageSize = resolvePageSize(limit);
+        // One extra row tells us whether another page exists
+        PageRequest window = PageRequest.of(0, pageSize + 1);
+
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = orderRepository.findPageIds(status, tableId, window);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            ids = orderRepository.findPageIdsBefore(status, tableId, after.createdAt(), after.id(), window);
+        }
+
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        // Ids first, then the page with its tables and items, so the limit is applied in SQL
+        List<Order> orders = pageIds.isEmpty() ? List.of() : orderRepository.findAllWithItemsByIdIn(pageIds);
+
+        String nextCursor = hasMore ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        List<OrderDTO> page = orders.stream()
             .<OrderDTO>map(this::convertToDTO)
             .collect(Collectors.toList());
+        return new OrderPageDTO(page, nextCursor);
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Position of the last order on a page. Encoded as an opaque URL-safe token so clients
+     * don't build it themselves.
+     */
+    private record OrderCursor(LocalDateTime createdAt, Long id) {
+
+        static OrderCursor of(Order order) {
+            return new OrderCursor(order.getCreatedAt(), order.getId());
+        }
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static OrderCursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                // NumberFormatException and bad Base64 are both IllegalArgumentExceptions
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
     }
     
+    private double calculateTotal(List<OrderItem> orderItems) {
+        return orderItems.stream()
+            .mapToDouble(this::lineTotal)
+            .sum();
+    }
+
+    /**
+     * Brings the order's items in line with the requested lines, matched by menu item.
+     * Unchanged lines are left alone, changed quantities are updated in place, missing lines are
+     * removed through orphan removal and only new menu items are inserted. The total is adjusted
+     * by the difference of each change instead of being recomputed.
+     */
+    private void applyItemChanges(Order order, List<CreateOrderDTO.OrderItemRequest> itemRequests) {
+        // Rejects lines without a menuItemId before anything is changed
+        collectMenuItemIds(itemRequests);
+        Map<Long, Integer> requested = new LinkedHashMap<>();
+        for (CreateOrderDTO.OrderItemRequest itemRequest : itemRequests) {
+            requested.merge(itemRequest.getMenuItemId(), itemRequest.getQuantity(), Integer::sum);
+        }
+
+        Set<Long> existingIds = order.getItems().stream()
+            .map(item -> item.getMenuItem().getId())
+            .collect(Collectors.toSet());
+        Set<Long> newIds = requested.entrySet().stream()
+            .filter(entry -> entry.getValue() > 0 && !existingIds.contains(entry.getKey()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, MenuItem> newMenuItems = loadMenuItems(newIds);
+        List<Long> unknownIds = findUnknownIds(newIds, newMenuItems);
+        if (!unknownIds.isEmpty()) {
+            throw new NoSuchElementException("MenuItem not found: " + unknownIds);
+        }
+
+        double total = order.getTotal();
+        Iterator<OrderItem> existingItems = order.getItems().iterator();
+        while (existingItems.hasNext()) {
+            OrderItem item = existingItems.next();
+            // remove() so a second existing line for the same menu item is treated as surplus
+            Integer quantity = requested.remove(item.getMenuItem().getId());
+            if (quantity == null || quantity <= 0) {
+                total -= lineTotal(item);
+                existingItems.remove();
+            } else if (quantity != item.getQuantity()) {
+                total -= lineTotal(item);
+                item.setQuantity(quantity);
+                total += lineTotal(item);
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            OrderItem orderItem = newOrderItem(order, newMenuItems.get(entry.getKey()), entry.getValue());
+            order.getItems().add(orderItem);
+            total += lineTotal(orderItem);
+        }
+        order.setTotal(total);
+    }
+
+    private Map<Long, Integer> quantities(List<OrderItem> items) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem item : items) {
+            quantities.merge(item.getMenuItem().getId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * Takes the quantities from the live stock counters. The counters sit outside the database
+     * transaction, so the reservation is handed back if the transaction does not commit.
+     */
+    private void reserveStock(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        menuAvailabilityService.reserve(quantities);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        menuAvailabilityService.release(quantities);
+                    }
+                }
+            });
+        }
+    }
+
+    private void releaseStockAfterCommit(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    menuAvailabilityService.release(quantities);
+                }
+            });
+        } else {
+            menuAvailabilityService.release(quantities);
+        }
+    }
+
+    // Reserves what an edit added and gives back what it removed
+    private void adjustStock(Map<Long, Integer> before, Map<Long, Integer> after) {
+        Map<Long, Integer> added = new LinkedHashMap<>();
+        Map<Long, Integer> removed = new LinkedHashMap<>();
+        Set<Long> menuItemIds = new LinkedHashSet<>(before.keySet());
+        menuItemIds.addAll(after.keySet());
+        for (Long menuItemId : menuItemIds) {
+            int delta = after.getOrDefault(menuItemId, 0) - before.getOrDefault(menuItemId, 0);
+            if (delta > 0) {
+                added.put(menuItemId, delta);
+            } else if (delta < 0) {
+                removed.put(menuItemId, -delta);
+            }
+        }
+        reserveStock(added);
+        releaseStockAfterCommit(removed);
+    }
+
+    private OrderItem newOrderItem(Order order, MenuItem menuItem, int quantity) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.setMenuItem(menuItem);
+        orderItem.setItemName(menuItem.getName());
+        orderItem.setUnitPrice(menuItem.getPrice());
+        orderItem.setQuantity(quantity);
+        return orderItem;
+    }
+
+    private double lineTotal(OrderItem item) {
+        return item.getUnitPrice() * item.getQuantity();
+    }
+
+    // Builds the complete aggregate in memory so it is written with a single persist
+    private Order buildOrder(TableItem table, List<CreateOrderDTO.OrderItemRequest> itemRequests,
+                             Map<Long, MenuItem> menuItems) {
+        Order order = new Order();
+        order.setTable(table);
+        order.setStatus(OrderStatus.CREATED);
+
+        List<OrderItem> orderItems = itemRequests.stream()
+            .map(itemDTO -> newOrderItem(order, menuItems.get(itemDTO.getMenuItemId()), itemDTO.getQuantity()))
+            .collect(Collectors.toList());
+        order.setItems(orderItems);
+        order.setTotal(calculateTotal(orderItems));
+        return order;
+    }
+
+    /**
+     * Loads every menu item referenced by the request in a single query.
+     * All unknown ids are reported together so the client can fix the whole order at once.
+     */
+    private Map<Long, MenuItem> resolveMenuItems(List<CreateOrderDTO.OrderItemRequest> itemRequests) {
+        Set<Long> requestedIds = collectMenuItemIds(itemRequests);
+        Map<Long, MenuItem> menuItems = loadMenuItems(requestedIds);
+
+        List<Long> unknownIds = findUnknownIds(requestedIds, menuItems);
+        if (!unknownIds.isEmpty()) {
+            throw new NoSuchElementException("MenuItem not found: " + unknownIds);
+        }
+        return menuItems;
+    }
+
+    private Set<Long> collectMenuItemIds(List<CreateOrderDTO.OrderItemRequest> itemRequests) {
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        for (CreateOrderDTO.OrderItemRequest itemRequest : itemRequests) {
+            if (itemRequest.getMenuItemId() == null) {
+                throw new IllegalArgumentException("menuItemId is required for every order item");
+            }
+            requestedIds.add(itemRequest.getMenuItemId());
+        }
+        return requestedIds;
+    }
+
+    private Map<Long, MenuItem> loadMenuItems(Set<Long> menuItemIds) {
+        if (menuItemIds.isEmpty()) {
+            return Map.of();
+        }
+        return menuItemRepository.findAllById(menuItemIds).stream()
+            .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
+    }
+
+    private List<Long> findUnknownIds(Set<Long> requestedIds, Map<Long, MenuItem> menuItems) {
+        return requestedIds.stream()
+            .filter(id -> !menuItems.containsKey(id))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Folds flat order line rows into OrderDTOs. Rows arrive grouped by order, so a single
+     * pass keyed by order id keeps the query's ordering.
+     */
+    private List<OrderDTO> assembleViews(List<OrderLineView> rows) {
+        Map<Long, OrderDTO> orders = new LinkedHashMap<>();
+        for (OrderLineView row : rows) {
+            OrderDTO dto = orders.computeIfAbsent(row.orderId(), id -> {
+                OrderDTO header = new OrderDTO();
+                header.setId(id);
+                header.setTableId(row.tableId());
+                header.setStatus(row.status());
+                header.setCreatedAt(row.createdAt());
+                header.setTotalAmount(row.total());
+                header.setVersion(row.version());
+                header.setItems(new ArrayList<>());
+                return header;
+            });
+            if (row.quantity() != null) {
+                OrderDTO.OrderItemDTO itemDTO = new OrderDTO.OrderItemDTO();
+                itemDTO.setMenuItemId(row.menuItemId());
+                itemDTO.setItemName(row.itemName());
+                itemDTO.setQuantity(row.quantity());
+                itemDTO.setPrice(row.unitPrice());
+                dto.getItems().add(itemDTO);
+            }
+        }
+        return new ArrayList<>(orders.values());
+    }
+
     private OrderDTO convertToDTO(Order order) {
         OrderDTO dto = new OrderDTO();
         dto.setId(order.getId());
         dto.setTableId(order.getTable().getTableId());
         dto.setStatus(order.getStatus());
         dto.setCreatedAt(order.getCreatedAt());
-        
-
-        double total = order.getItems().stream()
-            .mapToDouble(item -> item.getMenuItem().getPrice() * item.getQuantity())
-            .sum();
-        dto.setTotalAmount(total);
+        dto.setTotalAmount(order.getTotal());
+        dto.setVersion(order.getVersion());
         
         dto.setItems(order.getItems().stream()
             .map(item -> {
                 OrderDTO.OrderItemDTO itemDTO = new OrderDTO.OrderItemDTO();
+                // Reading the id from the lazy proxy does not load the MenuItem
                 itemDTO.setMenuItemId(item.getMenuItem().getId());
-                itemDTO.setItemName(item.getMenuItem().getName());
+                itemDTO.setItemName(item.getItemName());
                 itemDTO.setQuantity(item.getQuantity());
-                itemDTO.setPrice(item.getMenuItem().getPrice());
+                itemDTO.setPrice(item.getUnitPrice());
                 return itemDTO;
             })
             .collect(Collectors.toList()));
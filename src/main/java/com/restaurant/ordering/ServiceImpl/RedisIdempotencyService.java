@@ -0,0 +1,123 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Exception.IdempotencyKeyReusedException;
+import com.restaurant.ordering.Service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.context.annotation.Conditional;
+import com.restaurant.ordering.Config.RedisEnabledCondition;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Claims a key with {@code SET NX PX} and a pending entry carrying the request's fingerprint before
+ * the action runs, then overwrites the entry with the response. Requests that find a pending entry
+ * with their fingerprint poll until the response appears.
+ */
+@Service
+@Conditional(RedisEnabledCondition.class)
+public class RedisIdempotencyService implements IdempotencyService {
+
+    private static final String IDEMPOTENCY_PREFIX = "idempotency:";
+    private static final long POLL_MILLIS = 50;
+
+    // The response is null while the first request is still running
+    private record StoredResponse(String fingerprint, OrderDTO response) {
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlMinutes;
+    private final long waitMillis;
+    private final long pendingTtlMillis;
+
+    public RedisIdempotencyService(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${ordering.idempotency.ttl-minutes:10}") long ttlMinutes,
+            @Value("${ordering.idempotency.wait-millis:5000}") long waitMillis,
+            @Value("${ordering.idempotency.pending-ttl-seconds:60}") long pendingTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlMinutes = ttlMinutes;
+        this.waitMillis = waitMillis;
+        // A claim left behind by a crashed instance frees the key after this long
+        this.pendingTtlMillis = pendingTtlSeconds * 1000;
+    }
+
+    @Override
+    public OrderDTO execute(String key, Object request, Supplier<OrderDTO> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        String redisKey = IDEMPOTENCY_PREFIX + key;
+        String fingerprint = RequestFingerprint.of(objectMapper, request);
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(redisKey,
+                write(key, new StoredResponse(fingerprint, null)), pendingTtlMillis, TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(claimed)) {
+            return await(key, redisKey, fingerprint);
+        }
+        OrderDTO response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey,
+                    write(key, new StoredResponse(fingerprint, response)), ttlMinutes, TimeUnit.MINUTES);
+        } catch (IllegalStateException e) {
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+        return response;
+    }
+
+    private OrderDTO await(String key, String redisKey, String fingerprint) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (true) {
+            Object value = redisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                // The first request failed and released its claim
+                throw new IllegalStateException("The request with Idempotency-Key " + key + " failed; retry it");
+            }
+            StoredResponse stored = read(key, (String) value);
+            if (!stored.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            if (stored.response() != null) {
+                return stored.response();
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("A request with Idempotency-Key " + key + " is still in progress");
+            }
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for Idempotency-Key " + key);
+            }
+        }
+    }
+
+    private String write(String key, StoredResponse stored) {
+        try {
+            return objectMapper.writeValueAsString(stored);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response for key " + key, e);
+        }
+    }
+
+    private StoredResponse read(String key, String value) {
+        try {
+            return objectMapper.readValue(value, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response for Idempotency-Key " + key + " is unreadable", e);
+        }
+    }
+}
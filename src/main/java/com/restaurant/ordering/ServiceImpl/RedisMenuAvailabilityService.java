@@ -0,0 +1,145 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Config.RedisEnabledCondition;
+import com.restaurant.ordering.Service.MenuAvailabilityService;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stock counters shared by every instance through Redis. Counters are plain integers so
+ * DECRBY/INCRBY work on them directly; a whole order is checked and decremented in one script,
+ * which Redis runs atomically without any locks.
+ */
+@Service
+@Conditional(RedisEnabledCondition.class)
+public class RedisMenuAvailabilityService implements MenuAvailabilityService {
+
+    private static final String STOCK_PREFIX = "menu:stock:";
+    private static final String TRACKED_KEY = "menu:stock:tracked";
+    private static final String GENERATION_KEY = "menu:stock:generation";
+
+    // KEYS[1] is the sold-out generation, bumped when a counter reaches zero.
+    // Returns 0 on success, otherwise the 1-based position of the first item that is short
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do
+              local stock = redis.call('GET', KEYS[i])
+              if stock and tonumber(stock) < tonumber(ARGV[i - 1]) then return i - 1 end
+            end
+            local soldOut = false
+            for i = 2, #KEYS do
+              if redis.call('EXISTS', KEYS[i]) == 1 then
+                local left = redis.call('DECRBY', KEYS[i], ARGV[i - 1])
+                if left == 0 and tonumber(ARGV[i - 1]) > 0 then soldOut = true end
+              end
+            end
+            if soldOut then redis.call('INCR', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    // Only counters that still exist are topped up, so an untracked item is never re-created.
+    // KEYS[1] is the sold-out generation, bumped when a counter comes back from zero
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            local restocked = false
+            for i = 2, #KEYS do
+              if redis.call('EXISTS', KEYS[i]) == 1 then
+                local stock = redis.call('INCRBY', KEYS[i], ARGV[i - 1])
+                if stock > 0 and stock == tonumber(ARGV[i - 1]) then restocked = true end
+              end
+            end
+            if restocked then redis.call('INCR', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisMenuAvailabilityService(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void setStock(Long menuItemId, Integer quantity) {
+        if (quantity == null) {
+            redisTemplate.delete(STOCK_PREFIX + menuItemId);
+            redisTemplate.opsForSet().remove(TRACKED_KEY, menuItemId.toString());
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            return;
+        }
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Stock must not be negative");
+        }
+        redisTemplate.opsForValue().set(STOCK_PREFIX + menuItemId, quantity.toString());
+        redisTemplate.opsForSet().add(TRACKED_KEY, menuItemId.toString());
+        redisTemplate.opsForValue().increment(GENERATION_KEY);
+    }
+
+    @Override
+    public Integer getStock(Long menuItemId) {
+        String stock = redisTemplate.opsForValue().get(STOCK_PREFIX + menuItemId);
+        return stock != null ? Integer.parseInt(stock) : null;
+    }
+
+    @Override
+    public Map<Long, Integer> getStockLevels() {
+        Set<String> tracked = redisTemplate.opsForSet().members(TRACKED_KEY);
+        if (tracked == null || tracked.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = new ArrayList<>(tracked);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> STOCK_PREFIX + id).toList());
+        Map<Long, Integer> levels = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value != null) {
+                levels.put(Long.parseLong(ids.get(i)), Integer.parseInt(value));
+            }
+        }
+        return levels;
+    }
+
+    @Override
+    public long getSoldOutGeneration() {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation != null ? Long.parseLong(generation) : 0;
+    }
+
+    @Override
+    public void reserve(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(quantities.keySet());
+        Long shortAt = redisTemplate.execute(RESERVE, keys(ids), amounts(ids, quantities));
+        if (shortAt != null && shortAt > 0) {
+            throw new IllegalStateException("MenuItem " + ids.get(shortAt.intValue() - 1) + " is sold out");
+        }
+    }
+
+    @Override
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(quantities.keySet());
+        redisTemplate.execute(RELEASE, keys(ids), amounts(ids, quantities));
+    }
+
+    private static List<String> keys(List<Long> ids) {
+        List<String> keys = new ArrayList<>(ids.size() + 1);
+        keys.add(GENERATION_KEY);
+        ids.forEach(id -> keys.add(STOCK_PREFIX + id));
+        return keys;
+    }
+
+    private static Object[] amounts(List<Long> ids, Map<Long, Integer> quantities) {
+        return ids.stream().map(id -> quantities.get(id).toString()).toArray();
+    }
+}
@@ -37,6 +37,9 @@ public class TableServiceImpl implements TableService {
 
     @Override
     public TableItem addTable(TableItem tableItem) {
+        if (tableItem.getTableId() != null && tableRepository.findByTableId(tableItem.getTableId()).isPresent()) {
+            throw new IllegalStateException("Table already exists with tableId: " + tableItem.getTableId());
+        }
         return tableRepository.save(tableItem);
     }
 
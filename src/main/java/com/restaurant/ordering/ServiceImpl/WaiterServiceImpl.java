@@ -29,6 +29,9 @@ public class WaiterServiceImpl implements WaiterService {
     public void markOrderDelivered(Long orderId) {
         try {
             orderService.updateOrderStatus(orderId, OrderStatus.DELIVERED);
+        } catch (IllegalStateException e) {
+            // Not deliverable from its current status, surface as a conflict rather than not found
+            throw e;
         } catch (Exception e) {
             throw new NoSuchElementException("Failed to mark order as delivered: " + e.getMessage());
         }
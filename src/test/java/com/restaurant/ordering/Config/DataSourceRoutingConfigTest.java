@@ -0,0 +1,63 @@
+package com.restaurant.ordering.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataSourceRoutingConfigTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1");
+        properties.setUsername("sa");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "7")
+                .withProperty("spring.datasource.hikari.connection-timeout", "1500")
+                .withProperty("ordering.datasource.replica.hikari.maximum-pool-size", "3");
+
+        // Act
+        DataSource dataSource = new DataSourceRoutingConfig().dataSource(properties,
+                new ReadYourWritesTracker(2000), environment, "jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1", "sa", "");
+
+        ReadWriteRoutingDataSource routing =
+                (ReadWriteRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+        primary = (HikariDataSource) routing.getResolvedDataSources().get(ReadWriteRoutingDataSource.Route.PRIMARY);
+        replica = (HikariDataSource) routing.getResolvedDataSources().get(ReadWriteRoutingDataSource.Route.REPLICA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void dataSource_HikariSettings_ApplyToBothPools() {
+        // Assert
+        assertEquals(7, primary.getMaximumPoolSize());
+        assertEquals(1500, primary.getConnectionTimeout());
+        assertEquals(1500, replica.getConnectionTimeout());
+        assertEquals("primary", primary.getPoolName());
+    }
+
+    @Test
+    void dataSource_ReplicaHikariSettings_OverrideSharedOnes() {
+        // Assert
+        assertEquals(3, replica.getMaximumPoolSize());
+        assertTrue(replica.isReadOnly());
+        assertEquals("replica", replica.getPoolName());
+    }
+}
@@ -5,6 +5,7 @@ import com.restaurant.ordering.Enums.MenuCategory;
 import com.restaurant.ordering.Model.MenuItem;
 import com.restaurant.ordering.Repository.MenuItemRepository;
 import com.restaurant.ordering.Security.JwtTokenProvider;
+import com.restaurant.ordering.Service.MenuService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +35,9 @@ public class MenuControllerIntegrationTest {
     @Autowired
     private MenuItemRepository menuItemRepository;
 
+    @Autowired
+    private MenuService menuService;
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
@@ -42,6 +46,7 @@ public class MenuControllerIntegrationTest {
     @BeforeEach
     void setUp() {
         menuItemRepository.deleteAll();
+        menuService.refreshMenu();
         authToken = "Bearer " + jwtTokenProvider.createToken("manager", "ROLE_MANAGER");
     }
 
@@ -53,6 +58,7 @@ public class MenuControllerIntegrationTest {
         item.setPrice(12.5);
         item.setCategory(MenuCategory.MAIN_COURSE);
         menuItemRepository.save(item);
+        menuService.refreshMenu();
 
         mockMvc.perform(get("/manager/menu")
                 .header("Authorization", authToken))
@@ -64,6 +70,25 @@ public class MenuControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].category", is("MAIN_COURSE")));
     }
 
+    @Test
+    void getItemsByCategoryAndPrice_ReturnSnapshotLanes() throws Exception {
+        menuItemRepository.save(MenuItem.builder().name("Steak").price(25.0).category(MenuCategory.MAIN_COURSE).build());
+        menuItemRepository.save(MenuItem.builder().name("Pasta").price(12.0).category(MenuCategory.MAIN_COURSE).build());
+        menuItemRepository.save(MenuItem.builder().name("Cake").price(6.0).category(MenuCategory.DESSERT).build());
+        menuService.refreshMenu();
+
+        mockMvc.perform(get("/manager/menu/category/MAIN_COURSE")
+                .header("Authorization", authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Pasta", "Steak")));
+
+        mockMvc.perform(get("/manager/menu/by-price")
+                .param("ascending", "false")
+                .header("Authorization", authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Steak", "Pasta", "Cake")));
+    }
+
     @Test
     void getAllItems_Empty_ReturnsNotFound() throws Exception {
         mockMvc.perform(get("/manager/menu")
@@ -161,6 +186,59 @@ public class MenuControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void importMenu_Csv_ReturnsSummaryAndUpdatesMenu() throws Exception {
+        String csv = "name,description,price,category\n"
+                + "Pizza,\"Tomato, mozzarella\",12.5,MAIN_COURSE\n"
+                + "Lemonade,,3.0,DRINK\n"
+                + "Mystery,,free,DESSERT\n";
+
+        mockMvc.perform(post("/manager/menu/import")
+                .header("Authorization", authToken)
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(3)));
+
+        mockMvc.perform(get("/manager/menu")
+                .header("Authorization", authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void importMenu_JsonArray_ImportsAsJson() throws Exception {
+        String json = "[{\"name\": \"Pizza\", \"price\": 12.5, \"category\": \"MAIN_COURSE\"},"
+                + "{\"name\": \"Lemonade\", \"price\": 3, \"category\": \"DRINK\"}]";
+
+        mockMvc.perform(post("/manager/menu/import")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.failed", is(0)));
+    }
+
+    @Test
+    void importMenu_UnsupportedContentType_ReturnsUnsupportedMediaType() throws Exception {
+        mockMvc.perform(post("/manager/menu/import")
+                .header("Authorization", authToken)
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("name,price,category\nPizza,12.5,MAIN_COURSE\n"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void importMenu_WithoutAuth_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post("/manager/menu/import")
+                .contentType("text/csv")
+                .content("name,price,category\nPizza,12.5,MAIN_COURSE\n"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void getAllItems_WithoutAuth_ReturnsForbidden() throws Exception {
         mockMvc.perform(get("/manager/menu"))
@@ -0,0 +1,93 @@
+package com.restaurant.ordering.Controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.MenuSnapshot;
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Model.MenuItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MenuPayloadsTest {
+
+    private ObjectMapper objectMapper;
+    private MenuPayloads menuPayloads;
+    private MenuSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        menuPayloads = new MenuPayloads(objectMapper);
+
+        MenuItem item = new MenuItem();
+        item.setId(1L);
+        item.setName("Bruschetta");
+        item.setPrice(8.5);
+        item.setCategory(MenuCategory.APPETIZER);
+        snapshot = MenuSnapshot.of("1-1", List.of(item));
+    }
+
+    @Test
+    void forVersion_GzipVariantDecompressesToJson() throws IOException {
+        // Act
+        MenuPayloads.Rendered rendered = menuPayloads.forVersion(MenuPayloads.version(snapshot, 0), snapshot, Set::of);
+
+        // Assert
+        assertTrue(new String(rendered.json()).contains("\"available\":true"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(rendered.gzip()))) {
+            assertArrayEquals(rendered.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void forVersion_SameVersion_ReusesRenderedBytesWithoutReadingStock() {
+        // Arrange
+        String version = MenuPayloads.version(snapshot, 0);
+        MenuPayloads.Rendered first = menuPayloads.forVersion(version, snapshot, Set::of);
+
+        // Act
+        MenuPayloads.Rendered second = menuPayloads.forVersion(version, snapshot, () -> {
+            throw new AssertionError("stock levels read for an already rendered version");
+        });
+        MenuSnapshot changed = MenuSnapshot.of("1-2", List.of());
+        MenuPayloads.Rendered next = menuPayloads.forVersion(MenuPayloads.version(changed, 0), changed, Set::of);
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, next);
+        assertNotEquals(first.etag(false), first.etag(true));
+        assertNotEquals(first.etag(false), next.etag(false));
+    }
+
+    @Test
+    void forVersion_NewSoldOutGeneration_RendersNewVersionMarkedUnavailable() {
+        // Act
+        MenuPayloads.Rendered inStock = menuPayloads.forVersion(MenuPayloads.version(snapshot, 0), snapshot, Set::of);
+        MenuPayloads.Rendered soldOut = menuPayloads.forVersion(MenuPayloads.version(snapshot, 1), snapshot, () -> Set.of(1L));
+
+        // Assert
+        assertNotEquals(inStock.etag(false), soldOut.etag(false));
+        assertEquals(MenuPayloads.etag(MenuPayloads.version(snapshot, 1), false), soldOut.etag(false));
+        assertTrue(new String(soldOut.json()).contains("\"available\":false"));
+    }
+
+    @Test
+    void acceptsGzip_HonoursQualityZero() {
+        assertTrue(MenuPayloads.acceptsGzip("gzip, deflate, br"));
+        assertTrue(MenuPayloads.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(MenuPayloads.acceptsGzip("*"));
+        assertFalse(MenuPayloads.acceptsGzip("gzip;q=0"));
+        assertFalse(MenuPayloads.acceptsGzip("*, gzip;q=0"));
+        assertFalse(MenuPayloads.acceptsGzip("*;q=0"));
+        assertTrue(MenuPayloads.acceptsGzip("*;q=0, gzip"));
+        assertFalse(MenuPayloads.acceptsGzip("identity"));
+        assertFalse(MenuPayloads.acceptsGzip(null));
+    }
+}
@@ -22,8 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -97,6 +99,114 @@ public class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.items[0].quantity", is(2)));
     }
 
+    @Test
+    void createOrder_RepeatedIdempotencyKey_ReplaysFirstResponse() throws Exception {
+        String payload = "{" +
+                "\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{" +
+                "\"menuItemId\":" + testMenuItem.getId() + "," +
+                "\"quantity\":2}]}";
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        String first = mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long orderId = objectMapper.readTree(first).get("id").asLong();
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(orderId.intValue())));
+
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    void createOrder_ReusedIdempotencyKeyWithDifferentBody_ReturnsUnprocessable() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String payload = "{" +
+                "\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{" +
+                "\"menuItemId\":" + testMenuItem.getId() + "," +
+                "\"quantity\":%d}]}";
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload.formatted(2)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload.formatted(3)))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    void createOrder_SameIdempotencyKeyFromAnotherWaiter_CreatesSeparateOrder() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String otherWaiter = "Bearer " + jwtTokenProvider.createToken("other-waiter", "ROLE_WAITER");
+        String payload = "{" +
+                "\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{" +
+                "\"menuItemId\":" + testMenuItem.getId() + "," +
+                "\"quantity\":2}]}";
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", otherWaiter)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isOk());
+
+        assertEquals(2, orderRepository.count());
+    }
+
+    @Test
+    void createOrders_Batch_ReportsPerOrderResults() throws Exception {
+        String payload = "[{" +
+                "\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{\"menuItemId\":" + testMenuItem.getId() + ",\"quantity\":2}]}," +
+                "{\"tableId\":999," +
+                "\"items\":[{\"menuItemId\":" + testMenuItem.getId() + ",\"quantity\":1}]}," +
+                "{\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{\"menuItemId\":" + testMenuItem.getId() + ",\"quantity\":3}]}]";
+
+        mockMvc.perform(post("/api/orders/batch")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].success", is(true)))
+                .andExpect(jsonPath("$[0].order.totalAmount", is(20.0)))
+                .andExpect(jsonPath("$[1].success", is(false)))
+                .andExpect(jsonPath("$[1].error", is("Table not found: 999")))
+                .andExpect(jsonPath("$[2].success", is(true)))
+                .andExpect(jsonPath("$[2].order.totalAmount", is(30.0)));
+
+        assertEquals(2, orderRepository.count());
+    }
+
     @Test
     void createOrder_InvalidTable_ReturnsNotFound() throws Exception {
         String payload = "{" +
@@ -139,6 +249,76 @@ public class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.items[0].quantity", is(2)));
     }
 
+    @Test
+    void getOrders_TableFilter_MatchesTableHistory() throws Exception {
+        // Create order first
+        String payload = "{" +
+                "\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{" +
+                "\"menuItemId\":" + testMenuItem.getId() + "," +
+                "\"quantity\":2}]}";
+        String response = mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andReturn().getResponse().getContentAsString();
+        Long orderId = objectMapper.readTree(response).get("id").asLong();
+
+        // Both endpoints take the table's id, as /table/{tableId} does
+        mockMvc.perform(get("/api/orders/table/" + testTable.getId() + "/history")
+                .header("Authorization", authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(orderId.intValue())));
+
+        mockMvc.perform(get("/api/orders")
+                .param("tableId", testTable.getId().toString())
+                .header("Authorization", authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].id", is(orderId.intValue())))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void getOrder_MatchingETag_ReturnsNotModifiedUntilOrderChanges() throws Exception {
+        String payload = "{" +
+                "\"tableId\":" + testTable.getTableId() + "," +
+                "\"items\":[{" +
+                "\"menuItemId\":" + testMenuItem.getId() + "," +
+                "\"quantity\":2}]}";
+        String response = mockMvc.perform(post("/api/orders")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andReturn().getResponse().getContentAsString();
+        Long orderId = objectMapper.readTree(response).get("id").asLong();
+
+        String etag = mockMvc.perform(get("/api/orders/" + orderId)
+                .header("Authorization", authToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/orders/" + orderId)
+                .header("Authorization", authToken)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/orders/" + orderId + "/status")
+                .header("Authorization", authToken)
+                .param("status", "IN_PREPARATION"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/orders/" + orderId)
+                .header("Authorization", authToken)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.status", is("IN_PREPARATION")));
+    }
+
     @Test
     void getOrder_InvalidId_ReturnsNotFound() throws Exception {
         mockMvc.perform(get("/api/orders/9999")
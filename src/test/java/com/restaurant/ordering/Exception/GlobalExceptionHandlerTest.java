@@ -0,0 +1,66 @@
+package com.restaurant.ordering.Exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.Controller.OrderController;
+import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.Model.Order;
+import com.restaurant.ordering.Service.IdempotencyService;
+import com.restaurant.ordering.Service.OrderService;
+import com.restaurant.ordering.ServiceImpl.LocalIdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GlobalExceptionHandlerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private MockMvc mockMvc;
+    private String body;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        IdempotencyService idempotencyService = new LocalIdempotencyService(new ObjectMapper(), 10, 100, 1000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(orderService, idempotencyService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        CreateOrderDTO.OrderItemRequest item = new CreateOrderDTO.OrderItemRequest();
+        item.setMenuItemId(1L);
+        item.setQuantity(2);
+        CreateOrderDTO update = new CreateOrderDTO();
+        update.setItems(List.of(item));
+        body = new ObjectMapper().writeValueAsString(update);
+    }
+
+    @Test
+    void updateOrderItems_LosesRaceWithStatusChange_ReturnsConflict() throws Exception {
+        // Arrange
+        when(orderService.updateOrderItems(eq(1L), any(CreateOrderDTO.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/orders/1/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").exists());
+        verify(orderService, times(1)).updateOrderItems(eq(1L), any(CreateOrderDTO.class));
+    }
+}
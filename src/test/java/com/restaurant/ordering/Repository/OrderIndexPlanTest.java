@@ -0,0 +1,112 @@
+package com.restaurant.ordering.Repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds a production-sized order history (200k orders with one item each) once for the class and
+ * checks that the hot lookups are planned against the declared indexes instead of scanning. The
+ * rows are generated with set-based SQL in an id range of their own, which takes a few seconds,
+ * and are removed afterwards.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class OrderIndexPlanTest {
+
+    private static final long BASE_ID = 10_000_000L;
+    private static final int ORDERS = 200_000;
+    private static final int TABLES = 200;
+    private static final int ACTIVE_ORDERS = 50;
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO tables (id, table_id) " +
+                "SELECT " + BASE_ID + " + X, " + BASE_ID + " + X FROM SYSTEM_RANGE(1, " + TABLES + ")");
+        // Mostly delivered history with a thin slice of active orders, as on a busy floor
+        jdbcTemplate.update("INSERT INTO orders (id, table_id, status, created_at, total) " +
+                "SELECT " + BASE_ID + " + X, " + BASE_ID + " + MOD(X, " + TABLES + ") + 1, " +
+                "CASE WHEN X > " + (ORDERS - ACTIVE_ORDERS) + " THEN 'READY' ELSE 'DELIVERED' END, " +
+                "DATEADD('MINUTE', X, TIMESTAMP '" + timestamp(HISTORY_START) + "'), 10.0 " +
+                "FROM SYSTEM_RANGE(1, " + ORDERS + ")");
+        jdbcTemplate.update("INSERT INTO order_items (id, order_id, quantity, unit_price, item_name) " +
+                "SELECT " + BASE_ID + " + X, " + BASE_ID + " + X, 1, 10.0, 'Seeded' " +
+                "FROM SYSTEM_RANGE(1, " + ORDERS + ")");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_items WHERE id > " + BASE_ID);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > " + BASE_ID);
+        jdbcTemplate.update("DELETE FROM tables WHERE id > " + BASE_ID);
+    }
+
+    @Test
+    void boardQuery_UsesStatusIndex() {
+        assertPlanUses("IDX_ORDERS_STATUS_CREATED",
+                "SELECT id FROM orders WHERE status = 'READY' ORDER BY created_at, id");
+    }
+
+    @Test
+    void activeOrderForTable_UsesTableStatusIndex() {
+        assertPlanUses("IDX_ORDERS_TABLE_STATUS_CREATED",
+                "SELECT id FROM orders WHERE table_id = " + (BASE_ID + 7) +
+                " AND status IN ('CREATED', 'IN_PREPARATION', 'READY') ORDER BY created_at DESC, id DESC LIMIT 1");
+    }
+
+    @Test
+    void ordersCreatedAfter_UsesCreatedAtIndex() {
+        // The last few hours of the history
+        LocalDateTime since = HISTORY_START.plusMinutes(ORDERS - 300);
+        assertPlanUses("IDX_ORDERS_CREATED_ID",
+                "SELECT id FROM orders WHERE created_at > TIMESTAMP '" + timestamp(since) + "'");
+    }
+
+    @Test
+    void itemsOfOrder_UseOrderIdIndex() {
+        assertPlanUses("IDX_ORDER_ITEMS_ORDER",
+                "SELECT id FROM order_items WHERE order_id = " + (BASE_ID + 42));
+    }
+
+    @Test
+    void tableByTableId_UsesUniqueIndex() {
+        assertPlanUses("UK_TABLES_TABLE_ID",
+                "SELECT id FROM tables WHERE table_id = " + (BASE_ID + 7));
+    }
+
+    @Test
+    void userByUsername_UsesUniqueIndex() {
+        assertPlanUses("UK_USERS_USERNAME",
+                "SELECT id FROM users WHERE username = 'manager'");
+    }
+
+    @Test
+    void duplicateTableId_IsRejected() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO tables (id, table_id) VALUES (" + (BASE_ID + TABLES + 1) + ", " + (BASE_ID + 1) + ")"));
+    }
+
+    private static String timestamp(LocalDateTime time) {
+        return time.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    private void assertPlanUses(String indexName, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertNotNull(plan);
+        assertTrue(plan.toUpperCase().contains(indexName), () -> "Expected " + indexName + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,107 @@
+package com.restaurant.ordering.Repository;
+
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Model.TableItem;
+import com.restaurant.ordering.Service.MenuService;
+import com.restaurant.ordering.Service.TableService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repeated reference-data lookups should be answered from the second-level and query caches,
+ * and a write through the services should be visible on the next read.
+ */
+@SpringBootTest(properties = "ordering.cache.statistics-enabled=true")
+public class ReferenceDataCacheTest {
+
+    @Autowired
+    private TableItemRepository tableItemRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private TableItem table;
+    private MenuItem dessert;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        menuItemRepository.deleteAll();
+        tableItemRepository.deleteAll();
+
+        table = new TableItem();
+        table.setTableId(501L);
+        table = tableItemRepository.save(table);
+
+        dessert = new MenuItem();
+        dessert.setName("Tiramisu");
+        dessert.setPrice(6.5);
+        dessert.setCategory(MenuCategory.DESSERT);
+        dessert = menuItemRepository.save(dessert);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByTableId_RepeatedLookup_IssuesNoStatements() {
+        tableItemRepository.findByTableId(501L);
+
+        statistics.clear();
+        TableItem cached = tableItemRepository.findByTableId(501L).orElseThrow();
+
+        assertEquals(table.getId(), cached.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findByTableId_AfterTableUpdate_SeesNewValue() {
+        tableItemRepository.findByTableId(501L);
+
+        TableItem update = new TableItem();
+        update.setTableId(502L);
+        tableService.updateTable(table.getId(), update);
+
+        assertTrue(tableItemRepository.findByTableId(501L).isEmpty());
+        assertEquals(table.getId(), tableItemRepository.findByTableId(502L).orElseThrow().getId());
+    }
+
+    @Test
+    void findByCategory_AfterMenuUpdate_SeesNewPrice() {
+        menuItemRepository.findByCategory(MenuCategory.DESSERT);
+
+        statistics.clear();
+        menuItemRepository.findByCategory(MenuCategory.DESSERT);
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        dessert.setPrice(7.0);
+        menuService.updateMenuItem(dessert.getId(), dessert);
+
+        List<MenuItem> desserts = menuItemRepository.findByCategory(MenuCategory.DESSERT);
+        assertEquals(1, desserts.size());
+        assertEquals(7.0, desserts.get(0).getPrice());
+    }
+}
@@ -74,6 +74,8 @@ public class CustomerServiceImplTest {
         OrderItem item = new OrderItem();
         item.setId(1L);
         item.setMenuItem(testMenuItem);
+        item.setItemName(testMenuItem.getName());
+        item.setUnitPrice(testMenuItem.getPrice());
         item.setQuantity(2);
         testOrderItems.add(item);
 
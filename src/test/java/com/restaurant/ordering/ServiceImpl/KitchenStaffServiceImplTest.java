@@ -3,6 +3,7 @@ package com.restaurant.ordering.ServiceImpl;
 import com.restaurant.ordering.Enums.OrderStatus;
 import com.restaurant.ordering.Model.Order;
 import com.restaurant.ordering.Repository.OrderRepository;
+import com.restaurant.ordering.Service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,6 +22,9 @@ public class KitchenStaffServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderService orderService;
+
     @InjectMocks
     private KitchenStaffServiceImpl kitchenStaffService;
 
@@ -51,62 +54,35 @@ public class KitchenStaffServiceImplTest {
     }
 
     @Test
-    void markOrderInPreparation_ValidOrder_UpdatesStatus() {
-        // Arrange
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
-
+    void markOrderInPreparation_ValidOrder_GoesThroughOrderService() {
         // Act
         kitchenStaffService.markOrderInPreparation(1L);
 
         // Assert
-        assertEquals(OrderStatus.IN_PREPARATION, testOrder.getStatus());
-        verify(orderRepository, times(1)).findById(1L);
-        verify(orderRepository, times(1)).save(testOrder);
+        verify(orderService, times(1)).updateOrderStatus(1L, OrderStatus.IN_PREPARATION);
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
-    void markOrderInPreparation_InvalidOrder_ThrowsException() {
+    void markOrderInPreparation_AlreadyPicked_ThrowsConflict() {
         // Arrange
-        when(orderRepository.findById(99L)).thenReturn(Optional.empty());
+        when(orderService.updateOrderStatus(1L, OrderStatus.IN_PREPARATION))
+                .thenThrow(new IllegalStateException("Order 1 cannot move from IN_PREPARATION to IN_PREPARATION"));
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            kitchenStaffService.markOrderInPreparation(99L);
+        assertThrows(IllegalStateException.class, () -> {
+            kitchenStaffService.markOrderInPreparation(1L);
         });
-        assertEquals("Order not found", exception.getMessage());
-        verify(orderRepository, times(1)).findById(99L);
-        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
-    void markOrderReady_ValidOrder_UpdatesStatus() {
-        // Arrange
-        testOrder.setStatus(OrderStatus.IN_PREPARATION);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
-
+    void markOrderReady_ValidOrder_GoesThroughOrderService() {
         // Act
         kitchenStaffService.markOrderReady(1L);
 
         // Assert
-        assertEquals(OrderStatus.READY, testOrder.getStatus());
-        verify(orderRepository, times(1)).findById(1L);
-        verify(orderRepository, times(1)).save(testOrder);
-    }
-
-    @Test
-    void markOrderReady_InvalidOrder_ThrowsException() {
-        // Arrange
-        when(orderRepository.findById(99L)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            kitchenStaffService.markOrderReady(99L);
-        });
-        assertEquals("Order not found", exception.getMessage());
-        verify(orderRepository, times(1)).findById(99L);
-        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderService, times(1)).updateOrderStatus(1L, OrderStatus.READY);
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
@@ -0,0 +1,134 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Exception.IdempotencyKeyReusedException;
+import com.restaurant.ordering.Service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalIdempotencyServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private LocalIdempotencyService idempotencyService;
+    private CreateOrderDTO createOrderDTO;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new LocalIdempotencyService(new ObjectMapper(), 10, 100, 2000);
+        createOrderDTO = new CreateOrderDTO();
+        createOrderDTO.setTableId(101L);
+    }
+
+    @Test
+    void execute_ConcurrentRequestsWithSameKey_CreateOrderOnce() throws Exception {
+        // Arrange
+        OrderDTO created = new OrderDTO();
+        created.setId(1L);
+        CountDownLatch actionStarted = new CountDownLatch(1);
+        CountDownLatch finishAction = new CountDownLatch(1);
+        when(orderService.createOrder(any())).thenAnswer(invocation -> {
+            actionStarted.countDown();
+            finishAction.await(5, TimeUnit.SECONDS);
+            return created;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<OrderDTO> first = executor.submit(
+                    () -> idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO)));
+            assertTrue(actionStarted.await(5, TimeUnit.SECONDS));
+            Future<OrderDTO> second = executor.submit(
+                    () -> idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO)));
+            finishAction.countDown();
+
+            // Assert
+            assertSame(created, first.get(5, TimeUnit.SECONDS));
+            assertSame(created, second.get(5, TimeUnit.SECONDS));
+            verify(orderService, times(1)).createOrder(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_FirstRequestStillRunning_WaiterGetsConflict() throws Exception {
+        // Arrange
+        idempotencyService = new LocalIdempotencyService(new ObjectMapper(), 10, 100, 50);
+        CountDownLatch actionStarted = new CountDownLatch(1);
+        CountDownLatch finishAction = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> idempotencyService.execute("key-1", createOrderDTO, () -> {
+                actionStarted.countDown();
+                try {
+                    finishAction.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new OrderDTO();
+            }));
+            assertTrue(actionStarted.await(5, TimeUnit.SECONDS));
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class,
+                    () -> idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO)));
+            verify(orderService, never()).createOrder(any());
+        } finally {
+            finishAction.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ActionFails_ReleasesKeyForRetry() {
+        // Arrange
+        OrderDTO created = new OrderDTO();
+        when(orderService.createOrder(any()))
+                .thenThrow(new IllegalStateException("MenuItem 1 is sold out"))
+                .thenReturn(created);
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO)));
+        OrderDTO retried = idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO));
+
+        // Assert
+        assertSame(created, retried);
+        assertSame(created, idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO)));
+        verify(orderService, times(2)).createOrder(any());
+    }
+
+    @Test
+    void execute_SameKeyDifferentRequest_ThrowsWithoutReplaying() {
+        // Arrange
+        when(orderService.createOrder(any())).thenReturn(new OrderDTO());
+        idempotencyService.execute("key-1", createOrderDTO, () -> orderService.createOrder(createOrderDTO));
+        CreateOrderDTO otherOrder = new CreateOrderDTO();
+        otherOrder.setTableId(102L);
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotencyService.execute("key-1", otherOrder, () -> orderService.createOrder(otherOrder)));
+        verify(orderService, times(1)).createOrder(any());
+    }
+}
@@ -0,0 +1,169 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalMenuAvailabilityServiceTest {
+
+    private LocalMenuAvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        availabilityService = new LocalMenuAvailabilityService();
+    }
+
+    @Test
+    void reserve_UntrackedItem_IsAlwaysAvailable() {
+        // Act
+        availabilityService.reserve(Map.of(1L, 100));
+
+        // Assert
+        assertNull(availabilityService.getStock(1L));
+        assertTrue(availabilityService.getStockLevels().isEmpty());
+    }
+
+    @Test
+    void reserve_OneItemShort_TakesNothing() {
+        // Arrange
+        availabilityService.setStock(1L, 5);
+        availabilityService.setStock(2L, 1);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> availabilityService.reserve(Map.of(1L, 2, 2L, 3)));
+        assertEquals(5, availabilityService.getStock(1L));
+        assertEquals(1, availabilityService.getStock(2L));
+    }
+
+    @Test
+    void release_ReturnsReservedQuantity() {
+        // Arrange
+        availabilityService.setStock(1L, 3);
+        availabilityService.reserve(Map.of(1L, 3));
+
+        // Act
+        availabilityService.release(Map.of(1L, 2));
+
+        // Assert
+        assertEquals(2, availabilityService.getStock(1L));
+    }
+
+    @Test
+    void setStock_Negative_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.setStock(1L, -1));
+    }
+
+    @Test
+    void reserve_ConcurrentDecrementsOnPopularItem_NeverOversell() throws Exception {
+        // Arrange
+        int stock = 200;
+        int customers = 500;
+        availabilityService.setStock(1L, stock);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    availabilityService.reserve(Map.of(1L, 1));
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        int reserved = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get()) {
+                reserved++;
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(stock, reserved);
+        assertEquals(0, availabilityService.getStock(1L));
+    }
+
+    @Test
+    void reserve_OversizedAndUnitReservationsRace_CounterNeverGoesNegative() throws Exception {
+        // Arrange
+        int stock = 100;
+        availabilityService.setStock(1L, stock);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger lowestSeen = new AtomicInteger(stock);
+        Future<?> watcher = executor.submit(() -> {
+            while (running.get()) {
+                lowestSeen.accumulateAndGet(availabilityService.getStock(1L), Math::min);
+            }
+        });
+        List<Future<Integer>> attempts = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            // Every other customer asks for more than there ever was
+            int quantity = i % 2 == 0 ? stock + 1 : 1;
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    availabilityService.reserve(Map.of(1L, quantity));
+                    return quantity;
+                } catch (IllegalStateException e) {
+                    return 0;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        int reserved = 0;
+        for (Future<Integer> attempt : attempts) {
+            reserved += attempt.get();
+        }
+        running.set(false);
+        watcher.get();
+        executor.shutdown();
+
+        // Assert
+        assertEquals(stock, reserved);
+        assertEquals(0, availabilityService.getStock(1L));
+        assertTrue(lowestSeen.get() >= 0);
+    }
+
+    @Test
+    void getSoldOutGeneration_ChangesOnlyWhenItemCrossesZero() {
+        // Arrange
+        availabilityService.setStock(1L, 3);
+        long initial = availabilityService.getSoldOutGeneration();
+
+        // Act & Assert
+        availabilityService.reserve(Map.of(1L, 2));
+        assertEquals(initial, availabilityService.getSoldOutGeneration());
+
+        availabilityService.reserve(Map.of(1L, 1));
+        long soldOut = availabilityService.getSoldOutGeneration();
+        assertNotEquals(initial, soldOut);
+
+        availabilityService.release(Map.of(1L, 1));
+        long restocked = availabilityService.getSoldOutGeneration();
+        assertNotEquals(soldOut, restocked);
+
+        availabilityService.release(Map.of(1L, 1));
+        assertEquals(restocked, availabilityService.getSoldOutGeneration());
+    }
+}
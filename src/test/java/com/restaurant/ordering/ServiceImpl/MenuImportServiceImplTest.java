@@ -0,0 +1,156 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.DTO.MenuImportResultDTO;
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Enums.MenuImportFormat;
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Repository.MenuItemRepository;
+import com.restaurant.ordering.Repository.OrderRepository;
+import com.restaurant.ordering.Service.MenuImportService;
+import com.restaurant.ordering.Service.MenuService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class MenuImportServiceImplTest {
+
+    @Autowired
+    private MenuImportService menuImportService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        menuItemRepository.deleteAll();
+        menuService.refreshMenu();
+    }
+
+    @Test
+    void importMenu_CsvSpanningSeveralChunks_CreatesAllAndPublishesOnce() throws IOException {
+        // Arrange: two full chunks and a partial one
+        int rows = 2 * MenuImportServiceImpl.CHUNK_SIZE + 17;
+        StringBuilder csv = new StringBuilder("name,description,price,category\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Dish ").append(i).append(",\"Chef's special, no. ").append(i).append("\",")
+                .append(5 + i % 20).append(".50,MAIN_COURSE\n");
+        }
+        String versionBefore = menuService.getMenuVersion();
+
+        // Act
+        MenuImportResultDTO result = menuImportService.importMenu(stream(csv.toString()), MenuImportFormat.CSV);
+
+        // Assert
+        assertEquals(rows, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertNotEquals(versionBefore, result.getMenuVersion());
+        assertEquals(result.getMenuVersion(), menuService.getMenuVersion());
+        assertEquals(rows, menuService.getAllMenuItems().size());
+        assertEquals("Chef's special, no. 7", menuItemRepository.findByNameIn(List.of("Dish 7")).get(0).getDescription());
+    }
+
+    @Test
+    void importMenu_InvalidRows_AreReportedAndSkipped() throws IOException {
+        // Arrange
+        String csv = """
+            name,price,category
+            Soup,4.50,appetizer
+            ,3.00,DESSERT
+            Cake,cheap,DESSERT
+            Tea,2.00,BEVERAGE
+            """;
+
+        // Act
+        MenuImportResultDTO result = menuImportService.importMenu(stream(csv), MenuImportFormat.CSV);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(2L, 3L, 4L), result.getErrors().stream().map(MenuImportResultDTO.RowError::getRow).toList());
+        assertEquals(MenuCategory.APPETIZER, menuService.getAllMenuItems().get(0).getCategory());
+    }
+
+    @Test
+    void importMenu_JsonArray_UpsertsByIdAndByName() throws IOException {
+        // Arrange
+        MenuItem pasta = menuItemRepository.save(MenuItem.builder()
+            .name("Pasta").price(12.0).category(MenuCategory.MAIN_COURSE).build());
+        MenuItem wine = menuItemRepository.save(MenuItem.builder()
+            .name("Wine").price(8.0).category(MenuCategory.DRINK).build());
+        String json = """
+            [
+              {"name": "Pasta", "price": 13.5, "category": "MAIN_COURSE"},
+              {"id": %d, "name": "Red Wine", "price": 9, "category": "DRINK"},
+              {"id": 999999, "name": "Ghost", "price": 1, "category": "DRINK"},
+              {"name": "Tiramisu", "description": "Coffee dessert", "price": 7, "category": "DESSERT"}
+            ]
+            """.formatted(wine.getId());
+
+        // Act
+        MenuImportResultDTO result = menuImportService.importMenu(stream(json), MenuImportFormat.JSON);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getUpdated());
+        assertEquals(1, result.getFailed());
+        assertEquals(3L, result.getErrors().get(0).getRow());
+        assertEquals(13.5, menuItemRepository.findById(pasta.getId()).orElseThrow().getPrice());
+        assertEquals("Red Wine", menuItemRepository.findById(wine.getId()).orElseThrow().getName());
+        assertEquals(3, menuService.getAllMenuItems().size());
+    }
+
+    @Test
+    void importMenu_MalformedJson_KeepsEarlierRowsAndReportsWhereItStopped() throws IOException {
+        // Arrange
+        String ndjson = """
+            {"name": "Soup", "price": 4.5, "category": "APPETIZER"}
+            {"name": "Salad", "price": 6, "category": "APPETIZER"
+            """;
+
+        // Act
+        MenuImportResultDTO result = menuImportService.importMenu(stream(ndjson), MenuImportFormat.JSON);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(2L, result.getErrors().get(0).getRow());
+    }
+
+    @Test
+    void importMenu_NothingWritten_KeepsMenuVersion() throws IOException {
+        // Arrange
+        String versionBefore = menuService.getMenuVersion();
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> menuImportService.importMenu(stream("title,cost\nSoup,4.50\n"), MenuImportFormat.CSV));
+        MenuImportResultDTO result = menuImportService.importMenu(stream("{\"name\": "), MenuImportFormat.JSON);
+
+        // Assert
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(versionBefore, result.getMenuVersion());
+        assertEquals(versionBefore, menuService.getMenuVersion());
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Model.MenuItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MenuSearchIndexTest {
+
+    private MenuItem cremeBrulee;
+    private MenuItem cheeseburger;
+    private MenuItem burrata;
+    private MenuSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        cremeBrulee = menuItem(1L, "Crème Brûlée", "Vanilla custard, caramelised sugar", MenuCategory.DESSERT);
+        cheeseburger = menuItem(2L, "Cheeseburger", "Beef patty with cheddar", MenuCategory.MAIN_COURSE);
+        burrata = menuItem(3L, "Burrata", "Fresh cheese with tomatoes", MenuCategory.APPETIZER);
+        index = MenuSearchIndex.of(List.of(cremeBrulee, cheeseburger, burrata));
+    }
+
+    @Test
+    void search_IgnoresCaseAndAccents() {
+        assertEquals(List.of(cremeBrulee), index.search("CREME bru", 10));
+    }
+
+    @Test
+    void search_RanksNamePrefixAboveDescriptionMatch() {
+        // Act
+        List<MenuItem> results = index.search("chee", 10);
+
+        // Assert
+        assertEquals(List.of(cheeseburger, burrata), results);
+    }
+
+    @Test
+    void search_ShortTokenMatchesWordPrefixesOnly() {
+        assertEquals(List.of(burrata, cremeBrulee, cheeseburger), index.search("b", 10));
+        assertEquals(List.of(), index.search("rg", 10));
+    }
+
+    @Test
+    void search_InfixTokenMatchesInsideWords() {
+        assertEquals(List.of(cheeseburger), index.search("burg", 10));
+        assertEquals(List.of(cheeseburger), index.search("eseb", 10));
+    }
+
+    @Test
+    void search_EveryTokenMustMatch() {
+        assertEquals(List.of(burrata), index.search("cheese tomato", 10));
+        assertEquals(List.of(), index.search("cheese vanilla", 10));
+    }
+
+    @Test
+    void update_ReindexesOnlyChangedItemAndLeavesOriginalUntouched() {
+        // Arrange
+        MenuItem renamed = menuItem(2L, "Veggie Burger", "Black bean patty", MenuCategory.MAIN_COURSE);
+
+        // Act
+        MenuSearchIndex updated = index.update(2L, renamed).update(3L, null);
+
+        // Assert
+        assertEquals(List.of(renamed), updated.search("burger", 10));
+        assertEquals(List.of(), updated.search("burrata", 10));
+        assertEquals(List.of(), updated.search("cheddar", 10));
+        assertEquals(List.of(cheeseburger), index.search("cheddar", 10));
+    }
+
+    @Test
+    void search_LargerCatalog_ReturnsOnlyMatchesUpToLimit() {
+        // Arrange
+        String[] dishes = {"Margherita Pizza", "Pad Thai", "Chicken Tikka", "Caesar Salad", "Beef Ramen"};
+        List<MenuItem> catalog = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            catalog.add(menuItem((long) i, dishes[i % dishes.length] + " " + i,
+                    "Brand " + (i % 40) + " special", MenuCategory.MAIN_COURSE));
+        }
+        MenuSearchIndex large = MenuSearchIndex.of(catalog);
+
+        // Act
+        List<MenuItem> firstPage = large.search("pad th", 10);
+        List<MenuItem> allMatches = large.search("pad th", catalog.size());
+
+        // Assert
+        assertEquals(10, firstPage.size());
+        assertEquals(100, allMatches.size());
+        assertTrue(allMatches.stream().allMatch(item -> item.getName().startsWith("Pad Thai")));
+        assertTrue(allMatches.containsAll(firstPage));
+    }
+
+    private MenuItem menuItem(Long id, String name, String description, MenuCategory category) {
+        MenuItem item = new MenuItem();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setPrice(10.0);
+        item.setCategory(category);
+        return item;
+    }
+}
@@ -1,14 +1,19 @@
 package com.restaurant.ordering.ServiceImpl;
 
+import com.restaurant.ordering.Config.RabbitMQConfig;
 import com.restaurant.ordering.Enums.MenuCategory;
 import com.restaurant.ordering.Model.MenuItem;
 import com.restaurant.ordering.Repository.MenuItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -16,6 +21,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +31,15 @@ public class MenuServiceImplTest {
     @Mock
     private MenuItemRepository menuItemRepository;
 
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
     @InjectMocks
     private MenuServiceImpl menuService;
 
@@ -139,4 +155,160 @@ public class MenuServiceImplTest {
         });
         verify(menuItemRepository, never()).deleteById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllMenuItems_RepeatedReads_LoadMenuOnce() {
+        // Arrange
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem));
+
+        // Act
+        menuService.getAllMenuItems();
+        menuService.getMenuSnapshot();
+        String version = menuService.getMenuVersion();
+
+        // Assert
+        assertEquals(version, menuService.getMenuVersion());
+        verify(menuItemRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getMenuItemsByCategoryAndPrice_ServedFromSnapshotSortedByPrice() {
+        // Arrange
+        MenuItem steak = menuItem(2L, "Steak", 25.0, MenuCategory.MAIN_COURSE);
+        MenuItem cake = menuItem(3L, "Cake", 6.0, MenuCategory.DESSERT);
+        when(menuItemRepository.findAll()).thenReturn(List.of(steak, cake, testMenuItem));
+
+        // Act
+        List<MenuItem> mains = menuService.getMenuItemsByCategory(MenuCategory.MAIN_COURSE);
+        List<MenuItem> drinks = menuService.getMenuItemsByCategory(MenuCategory.DRINK);
+        List<MenuItem> ascending = menuService.getMenuItemsByPrice(true);
+        List<MenuItem> descending = menuService.getMenuItemsByPrice(false);
+
+        // Assert
+        assertEquals(List.of(testMenuItem, steak), mains);
+        assertTrue(drinks.isEmpty());
+        assertEquals(List.of(cake, testMenuItem, steak), ascending);
+        assertEquals(List.of(steak, testMenuItem, cake), descending);
+        verify(menuItemRepository, times(1)).findAll();
+        verifyNoMoreInteractions(menuItemRepository);
+    }
+
+    @Test
+    void addMenuItem_UpdatesCategoryAndPriceLanes() {
+        // Arrange
+        MenuItem soup = menuItem(2L, "Soup", 5.0, MenuCategory.APPETIZER);
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem));
+        when(menuItemRepository.save(any(MenuItem.class))).thenReturn(soup);
+        menuService.getAllMenuItems();
+
+        // Act
+        menuService.addMenuItem(soup);
+
+        // Assert
+        assertEquals(List.of(soup), menuService.getMenuItemsByCategory(MenuCategory.APPETIZER));
+        assertEquals(List.of(soup, testMenuItem), menuService.getMenuItemsByPrice(true));
+        verify(menuItemRepository, times(1)).findAll();
+    }
+
+    @Test
+    void addMenuItem_PublishesNewVersionWithoutReloading() {
+        // Arrange
+        MenuItem soup = menuItem(2L, "Soup", 5.0, MenuCategory.APPETIZER);
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem));
+        when(menuItemRepository.save(any(MenuItem.class))).thenReturn(soup);
+        String before = menuService.getMenuVersion();
+
+        // Act
+        menuService.addMenuItem(soup);
+
+        // Assert
+        assertNotEquals(before, menuService.getMenuVersion());
+        assertEquals(List.of(testMenuItem, soup), menuService.getAllMenuItems());
+        verify(menuItemRepository, times(1)).findAll();
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.MENU_EXCHANGE), eq(""), anyString());
+    }
+
+    @Test
+    void deleteMenuItem_RemovesItemFromMenu() {
+        // Arrange
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem));
+        when(menuItemRepository.existsById(1L)).thenReturn(true);
+
+        // Act
+        menuService.deleteMenuItem(1L);
+
+        // Assert
+        assertTrue(menuService.getAllMenuItems().isEmpty());
+    }
+
+    @Test
+    void onMenuChanged_OtherInstance_EvictsCachesAndReloads() {
+        // Arrange
+        MenuItem soup = menuItem(2L, "Soup", 5.0, MenuCategory.APPETIZER);
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem), List.of(testMenuItem, soup));
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        when(secondLevelCache.unwrap(Cache.class)).thenReturn(secondLevelCache);
+        String before = menuService.getMenuVersion();
+
+        // Act
+        menuService.onMenuChanged("another-instance");
+
+        // Assert
+        assertNotEquals(before, menuService.getMenuVersion());
+        assertEquals(List.of(testMenuItem, soup), menuService.getAllMenuItems());
+        verify(secondLevelCache).evictEntityData(MenuItem.class);
+        verify(secondLevelCache).evictDefaultQueryRegion();
+    }
+
+    @Test
+    void onMenuChanged_OwnAnnouncement_IsIgnored() {
+        // Arrange
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem));
+        menuService.refreshMenu();
+        ArgumentCaptor<Object> origin = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.MENU_EXCHANGE), eq(""), origin.capture());
+        String before = menuService.getMenuVersion();
+
+        // Act
+        menuService.onMenuChanged((String) origin.getValue());
+
+        // Assert
+        assertEquals(before, menuService.getMenuVersion());
+        verify(menuItemRepository, times(1)).findAll();
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    @Test
+    void searchMenuItems_AfterUpdate_FindsNewNameWithoutReloading() {
+        // Arrange
+        MenuItem renamed = menuItem(1L, "Mushroom Risotto", 14.0, MenuCategory.MAIN_COURSE);
+        when(menuItemRepository.findAll()).thenReturn(List.of(testMenuItem));
+        when(menuItemRepository.existsById(1L)).thenReturn(true);
+        when(menuItemRepository.save(any(MenuItem.class))).thenReturn(renamed);
+        assertEquals(List.of(testMenuItem), menuService.searchMenuItems("test", 10));
+
+        // Act
+        menuService.updateMenuItem(1L, renamed);
+
+        // Assert
+        assertEquals(List.of(renamed), menuService.searchMenuItems("risot", 10));
+        assertTrue(menuService.searchMenuItems("test", 10).isEmpty());
+        verify(menuItemRepository, times(1)).findAll();
+    }
+
+    @Test
+    void searchMenuItems_BlankQuery_ThrowsIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> menuService.searchMenuItems(" ", 10));
+        verifyNoInteractions(menuItemRepository);
+    }
+
+    private MenuItem menuItem(Long id, String name, double price, MenuCategory category) {
+        MenuItem item = new MenuItem();
+        item.setId(id);
+        item.setName(name);
+        item.setPrice(price);
+        item.setCategory(category);
+        return item;
+    }
+}
@@ -0,0 +1,161 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderBoardProjectionTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderBoardProjection board;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 5, 1, 19, 0);
+
+    @BeforeEach
+    void setUp() {
+        board = new OrderBoardProjection(orderService);
+    }
+
+    @Test
+    void onOrderEvent_StatusChange_MovesOrderBetweenLanes() {
+        // Act
+        board.onOrderEvent(order(1L, OrderStatus.CREATED, now));
+        board.onOrderEvent(order(1L, OrderStatus.IN_PREPARATION, now));
+
+        // Assert
+        assertTrue(board.getOrders(OrderStatus.CREATED).isEmpty());
+        assertEquals(List.of(1L), ids(board.getOrders(OrderStatus.IN_PREPARATION)));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void onOrderEvent_LateEarlierStatus_IsIgnored() {
+        // Act
+        board.onOrderEvent(order(1L, OrderStatus.READY, now));
+        board.onOrderEvent(order(1L, OrderStatus.CREATED, now));
+
+        // Assert
+        assertTrue(board.getOrders(OrderStatus.CREATED).isEmpty());
+        assertEquals(List.of(1L), ids(board.getOrders(OrderStatus.READY)));
+    }
+
+    @Test
+    void onOrderEvent_OlderVersionOfSameStatus_IsIgnored() {
+        // Arrange
+        OrderDTO edited = order(1L, OrderStatus.CREATED, now);
+        edited.setVersion(2L);
+        OrderDTO stale = order(1L, OrderStatus.CREATED, now);
+        stale.setVersion(1L);
+        stale.setTotalAmount(99.0);
+
+        // Act
+        board.onOrderEvent(edited);
+        board.onOrderEvent(stale);
+        board.onOrderEvent(edited);
+
+        // Assert
+        assertSame(edited, board.getOrders(OrderStatus.CREATED).get(0));
+    }
+
+    @Test
+    void rebuild_RacingNewerEvent_KeepsNewerCopy() {
+        // Arrange
+        OrderDTO loaded = order(1L, OrderStatus.CREATED, now);
+        loaded.setVersion(0L);
+        OrderDTO started = order(1L, OrderStatus.IN_PREPARATION, now);
+        started.setVersion(1L);
+        board.onOrderEvent(started);
+        when(orderService.getOrdersByStatus(OrderStatus.CREATED)).thenReturn(List.of(loaded));
+        when(orderService.getOrdersByStatus(OrderStatus.IN_PREPARATION)).thenReturn(List.of());
+        when(orderService.getOrdersByStatus(OrderStatus.READY)).thenReturn(List.of());
+
+        // Act
+        board.rebuild();
+
+        // Assert
+        assertTrue(board.getOrders(OrderStatus.CREATED).isEmpty());
+        assertEquals(List.of(1L), ids(board.getOrders(OrderStatus.IN_PREPARATION)));
+    }
+
+    @Test
+    void onOrderEvent_ClosedOrder_LeavesBoardForGood() {
+        // Act
+        board.onOrderEvent(order(1L, OrderStatus.READY, now));
+        board.onOrderEvent(order(1L, OrderStatus.DELIVERED, now));
+        board.onOrderEvent(order(1L, OrderStatus.READY, now));
+
+        // Assert
+        assertTrue(board.getOrders(OrderStatus.READY).isEmpty());
+        assertTrue(board.getOrders(OrderStatus.DELIVERED).isEmpty());
+    }
+
+    @Test
+    void getOrders_ListsOldestFirst() {
+        // Act
+        board.onOrderEvent(order(3L, OrderStatus.CREATED, now.plusMinutes(2)));
+        board.onOrderEvent(order(2L, OrderStatus.CREATED, now));
+        board.onOrderEvent(order(1L, OrderStatus.CREATED, now.plusMinutes(1)));
+
+        // Assert
+        assertEquals(List.of(2L, 1L, 3L), ids(board.getOrders(OrderStatus.CREATED)));
+    }
+
+    @Test
+    void getVersion_ChangesOnlyForTouchedLanes() {
+        // Arrange
+        board.onOrderEvent(order(1L, OrderStatus.CREATED, now));
+        String created = board.getVersion(OrderStatus.CREATED);
+        String ready = board.getVersion(OrderStatus.READY);
+
+        // Act
+        board.onOrderEvent(order(1L, OrderStatus.IN_PREPARATION, now));
+
+        // Assert
+        assertNotEquals(created, board.getVersion(OrderStatus.CREATED));
+        assertEquals(ready, board.getVersion(OrderStatus.READY));
+    }
+
+    @Test
+    void rebuild_LoadsOpenOrdersFromDatabase() {
+        // Arrange
+        when(orderService.getOrdersByStatus(OrderStatus.CREATED)).thenReturn(List.of(order(1L, OrderStatus.CREATED, now)));
+        when(orderService.getOrdersByStatus(OrderStatus.IN_PREPARATION)).thenReturn(List.of());
+        when(orderService.getOrdersByStatus(OrderStatus.READY)).thenReturn(List.of(order(2L, OrderStatus.READY, now)));
+
+        // Act
+        board.rebuild();
+
+        // Assert
+        assertEquals(List.of(1L), ids(board.getOrders(OrderStatus.CREATED)));
+        assertEquals(List.of(2L), ids(board.getOrders(OrderStatus.READY)));
+        verify(orderService, never()).getOrdersByStatus(OrderStatus.DELIVERED);
+    }
+
+    private OrderDTO order(Long id, OrderStatus status, LocalDateTime createdAt) {
+        OrderDTO dto = new OrderDTO();
+        dto.setId(id);
+        dto.setTableId(101L);
+        dto.setStatus(status);
+        dto.setCreatedAt(createdAt);
+        dto.setItems(List.of());
+        return dto;
+    }
+
+    private List<Long> ids(List<OrderDTO> orders) {
+        return orders.stream().map(OrderDTO::getId).toList();
+    }
+}
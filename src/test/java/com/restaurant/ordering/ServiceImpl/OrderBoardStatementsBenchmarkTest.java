@@ -0,0 +1,59 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Model.TableItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements behind one board poll (getOrdersByStatus).
+ * Lazy loading used to cost 1 + 3N queries for N orders; the flat OrderLineView projection
+ * reads the whole board in a single statement.
+ */
+public class OrderBoardStatementsBenchmarkTest extends OrderStatementsTestSupport {
+
+    private List<TableItem> tables;
+    private List<MenuItem> menuItems;
+
+    @BeforeEach
+    void setUp() {
+        tables = seedTables(200L, 10);
+        menuItems = seedMenu(3);
+    }
+
+    @Test
+    void getOrdersByStatus_StatementCountDoesNotGrowWithOrderCount() {
+        // Arrange
+        placeOrders(0, 2);
+        long fewOrdersStatements = statementsForBoard(2);
+
+        placeOrders(2, 10);
+
+        // Act
+        long manyOrdersStatements = statementsForBoard(10);
+
+        // Assert
+        assertEquals(1, fewOrdersStatements);
+        assertEquals(1, manyOrdersStatements);
+    }
+
+    private long statementsForBoard(int expectedOrders) {
+        Counted<List<OrderDTO>> board = counted(() -> orderService.getOrdersByStatus(OrderStatus.CREATED));
+
+        assertEquals(expectedOrders, board.result().size());
+        board.result().forEach(order -> assertEquals(menuItems.size(), order.getItems().size()));
+        return board.statements();
+    }
+
+    private void placeOrders(int fromTable, int toTable) {
+        for (int i = fromTable; i < toTable; i++) {
+            placeOrder(tables.get(i), menuItems, 1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.DTO.OrderDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderEventPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private OrderEventPublisher publisher;
+    private OrderDTO message;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OrderEventPublisher(rabbitTemplate, 2, 1, 50);
+        message = new OrderDTO();
+        message.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void publish_Acked_CountsConfirmedAndFreesWindow() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        // Act
+        CompletableFuture<Boolean> result = publisher.publish(message);
+
+        // Assert
+        assertTrue(result.get(1, TimeUnit.SECONDS));
+        assertEquals(1, publisher.getConfirmedCount());
+        assertEquals(0, publisher.getInFlightCount());
+    }
+
+    @Test
+    void publish_NackedThenAcked_RetriesOnce() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+            return null;
+        }).doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        // Act
+        CompletableFuture<Boolean> result = publisher.publish(message);
+
+        // Assert
+        assertTrue(result.get(1, TimeUnit.SECONDS));
+        assertEquals(1, publisher.getRetriedCount());
+        assertEquals(1, publisher.getConfirmedCount());
+        assertEquals(0, publisher.getFailedCount());
+    }
+
+    @Test
+    void publish_AlwaysNacked_FailsAfterRetries() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        // Act
+        CompletableFuture<Boolean> result = publisher.publish(message);
+
+        // Assert
+        assertFalse(result.get(1, TimeUnit.SECONDS));
+        assertEquals(1, publisher.getFailedCount());
+        assertEquals(0, publisher.getInFlightCount());
+        verify(rabbitTemplate, times(2)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void publish_NoConnection_FailsImmediately() {
+        // Arrange
+        doThrow(new AmqpConnectException(new RuntimeException("refused")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+        // Act
+        CompletableFuture<Boolean> result = publisher.publish(message);
+
+        // Assert
+        assertTrue(result.isDone());
+        assertFalse(result.join());
+        assertEquals(0, publisher.getInFlightCount());
+    }
+
+    @Test
+    void publish_UnconfirmedMessages_CountAsInFlight() {
+        // Act
+        publisher.publish(message);
+        publisher.publish(message);
+
+        // Assert
+        assertEquals(2, publisher.getInFlightCount());
+    }
+
+    @Test
+    void publish_WindowFullPastConfirmTimeout_FailsWithoutSending() {
+        // Arrange
+        publisher.publish(message);
+        publisher.publish(message);
+
+        // Act
+        CompletableFuture<Boolean> result = publisher.publish(message);
+
+        // Assert
+        assertTrue(result.isDone());
+        assertFalse(result.join());
+        assertEquals(1, publisher.getFailedCount());
+        assertEquals(2, publisher.getInFlightCount());
+        verify(rabbitTemplate, times(2)).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+}
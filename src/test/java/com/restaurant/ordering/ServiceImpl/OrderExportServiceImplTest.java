@@ -0,0 +1,101 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.DTO.OrderLineView;
+import com.restaurant.ordering.Enums.ExportFormat;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderExportServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OrderExportServiceImpl orderExportService;
+
+    private final LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+    private final LocalDateTime to = LocalDateTime.of(2024, 5, 2, 0, 0);
+    private List<OrderLineView> rows;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportServiceImpl(orderRepository, objectMapper);
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 19, 15);
+        rows = List.of(
+                new OrderLineView(1L, 101L, OrderStatus.DELIVERED, createdAt, 26.0, 0L, 7L, "Steak, medium", 2, 10.0),
+                new OrderLineView(1L, 101L, OrderStatus.DELIVERED, createdAt, 26.0, 0L, 8L, "Soda", 2, 3.0),
+                new OrderLineView(2L, 102L, OrderStatus.DELIVERED, createdAt.plusMinutes(5), 0.0, 0L, null, null, null, null));
+    }
+
+    @Test
+    void exportOrders_Ndjson_WritesOneLinePerOrder() throws Exception {
+        // Arrange
+        when(orderRepository.streamLineViewsForExport(from, to, OrderStatus.DELIVERED)).thenReturn(rows.stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        orderExportService.exportOrders(from, to, OrderStatus.DELIVERED, ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        OrderDTO first = objectMapper.readValue(lines[0], OrderDTO.class);
+        OrderDTO second = objectMapper.readValue(lines[1], OrderDTO.class);
+        assertEquals(1L, first.getId());
+        assertEquals(2, first.getItems().size());
+        assertEquals("Soda", first.getItems().get(1).getItemName());
+        assertEquals(2L, second.getId());
+        assertTrue(second.getItems().isEmpty());
+    }
+
+    @Test
+    void exportOrders_Csv_WritesHeaderAndOneRowPerLine() throws Exception {
+        // Arrange
+        when(orderRepository.streamLineViewsForExport(null, null, null)).thenReturn(rows.stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        orderExportService.exportOrders(null, null, null, ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(OrderExportServiceImpl.CSV_HEADER, lines[0]);
+        assertEquals("1,101,DELIVERED,2024-05-01T19:15,26.0,7,\"Steak, medium\",2,10.0", lines[1]);
+        assertEquals("2,102,DELIVERED,2024-05-01T19:20,0.0,,,,", lines[3]);
+    }
+
+    @Test
+    void exportOrders_ClosesRowStream() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamLineViewsForExport(null, null, null))
+                .thenReturn(Stream.<OrderLineView>empty().onClose(() -> closed.set(true)));
+
+        // Act
+        orderExportService.exportOrders(null, null, null, ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        // Assert
+        assertTrue(closed.get());
+    }
+}
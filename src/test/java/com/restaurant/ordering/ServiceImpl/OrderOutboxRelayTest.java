@@ -0,0 +1,98 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Model.OrderOutboxEvent;
+import com.restaurant.ordering.Repository.OrderOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderOutboxRelayTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
+    private OrderOutboxRelay relay;
+
+    private OrderOutboxEvent first;
+    private OrderOutboxEvent second;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OrderOutboxRelay(orderOutboxRepository, orderEventPublisher,
+                new ObjectMapper().findAndRegisterModules(), 10, 1000);
+
+        first = OrderOutboxEvent.builder().id(1L).orderId(11L).payload("{\"id\":11,\"status\":\"CREATED\"}").build();
+        second = OrderOutboxEvent.builder().id(2L).orderId(12L).payload("{\"id\":12,\"status\":\"READY\"}").build();
+    }
+
+    @Test
+    void drain_PublishesBatchAndDeletesConfirmedEvents() {
+        // Arrange
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(orderEventPublisher.publish(any(OrderDTO.class))).thenReturn(CompletableFuture.completedFuture(true));
+
+        // Act
+        relay.drain();
+
+        // Assert
+        verify(orderEventPublisher, times(2)).publish(any(OrderDTO.class));
+        verify(orderOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void drain_NackedEvent_StaysInOutbox() {
+        // Arrange
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(orderEventPublisher.publish(any(OrderDTO.class)))
+                .thenReturn(new CompletableFuture<Boolean>().completeAsync(() -> true))
+                .thenReturn(new CompletableFuture<Boolean>().completeAsync(() -> false));
+
+        // Act
+        relay.drain();
+
+        // Assert
+        verify(orderOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void drain_BrokerDown_StopsPublishingBatch() {
+        // Arrange
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(orderEventPublisher.publish(any(OrderDTO.class))).thenReturn(CompletableFuture.completedFuture(false));
+
+        // Act
+        relay.drain();
+
+        // Assert
+        verify(orderEventPublisher, times(1)).publish(any(OrderDTO.class));
+        verify(orderOutboxRepository, times(1)).deleteAllByIdInBatch(List.of());
+    }
+
+    @Test
+    void drain_EmptyOutbox_DoesNothing() {
+        // Arrange
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        relay.drain();
+
+        // Assert
+        verifyNoInteractions(orderEventPublisher);
+        verify(orderOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
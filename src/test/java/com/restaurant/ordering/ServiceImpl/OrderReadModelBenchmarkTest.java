@@ -0,0 +1,108 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.OrderStatus;
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Model.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the flat OrderLineView projection behind the read methods against hydrating Order
+ * entities and copying them into DTOs, which is what those methods did before.
+ */
+public class OrderReadModelBenchmarkTest extends OrderStatementsTestSupport {
+
+    private static final int ORDERS = 40;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<MenuItem> menuItems;
+    private List<OrderDTO> placed;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        menuItems = seedMenu(ITEMS_PER_ORDER);
+        placed = seedTables(300L, ORDERS).stream()
+                .map(table -> placeOrder(table, menuItems, 2))
+                .collect(Collectors.toList());
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void getOrdersByStatus_ProjectionMatchesEntityPathInOneStatement() {
+        // Arrange
+        List<OrderDTO> expected = readOnly.execute(status -> hydrateAndCopy());
+
+        // Act
+        Counted<List<OrderDTO>> board = counted(() -> orderService.getOrdersByStatus(OrderStatus.CREATED));
+
+        // Assert
+        assertEquals(ORDERS, board.result().size());
+        assertEquals(expected, board.result());
+        assertEquals(1, board.statements());
+    }
+
+    @Test
+    void getOrder_MenuPriceChangedAfterOrdering_KeepsOrderedPrice() {
+        // Arrange
+        OrderDTO order = placed.get(0);
+        MenuItem menuItem = menuItems.get(0);
+        double orderedPrice = menuItem.getPrice();
+        menuItem.setName("Renamed Dish");
+        menuItem.setPrice(99.0);
+        menuItemRepository.save(menuItem);
+
+        // Act
+        OrderDTO result = orderService.getOrder(order.getId());
+
+        // Assert
+        OrderDTO.OrderItemDTO line = result.getItems().get(0);
+        assertEquals(menuItem.getId(), line.getMenuItemId());
+        assertEquals("Dish 0", line.getItemName());
+        assertEquals(orderedPrice, line.getPrice());
+        assertEquals(order.getTotalAmount(), result.getTotalAmount());
+    }
+
+    private List<OrderDTO> hydrateAndCopy() {
+        return orderRepository.findByStatus(OrderStatus.CREATED).stream()
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .map(this::copy)
+                .collect(Collectors.toList());
+    }
+
+    private OrderDTO copy(Order order) {
+        OrderDTO dto = new OrderDTO();
+        dto.setId(order.getId());
+        dto.setTableId(order.getTable().getTableId());
+        dto.setStatus(order.getStatus());
+        dto.setCreatedAt(order.getCreatedAt());
+        dto.setTotalAmount(order.getTotal());
+        dto.setVersion(order.getVersion());
+        dto.setItems(order.getItems().stream()
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .map(item -> {
+                    OrderDTO.OrderItemDTO itemDTO = new OrderDTO.OrderItemDTO();
+                    itemDTO.setMenuItemId(item.getMenuItem().getId());
+                    itemDTO.setItemName(item.getItemName());
+                    itemDTO.setQuantity(item.getQuantity());
+                    itemDTO.setPrice(item.getUnitPrice());
+                    return itemDTO;
+                })
+                .collect(Collectors.toList()));
+        return dto;
+    }
+}
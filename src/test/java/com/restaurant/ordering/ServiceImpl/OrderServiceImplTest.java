@@ -2,24 +2,35 @@ package com.restaurant.ordering.ServiceImpl;
 
 import com.restaurant.ordering.DTO.CreateOrderDTO;
 import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.DTO.OrderLineView;
+import com.restaurant.ordering.DTO.OrderPageDTO;
 import com.restaurant.ordering.Enums.MenuCategory;
 import com.restaurant.ordering.Enums.OrderStatus;
 import com.restaurant.ordering.Model.MenuItem;
 import com.restaurant.ordering.Model.Order;
 import com.restaurant.ordering.Model.OrderItem;
 import com.restaurant.ordering.Model.TableItem;
+import com.restaurant.ordering.Repository.MenuItemRepository;
+import com.restaurant.ordering.Repository.OrderItemRepository;
 import com.restaurant.ordering.Repository.OrderRepository;
 import com.restaurant.ordering.Repository.TableItemRepository;
+import com.restaurant.ordering.Service.MenuAvailabilityService;
+import com.restaurant.ordering.Service.RedisOrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +45,21 @@ public class OrderServiceImplTest {
     @Mock
     private TableItemRepository tableItemRepository;
 
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderMessageProducer orderMessageProducer;
+
+    @Mock
+    private RedisOrderService redisOrderService;
+
+    @Mock
+    private MenuAvailabilityService menuAvailabilityService;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -63,6 +89,8 @@ public class OrderServiceImplTest {
         item1.setId(1L);
         item1.setQuantity(2);
         item1.setMenuItem(testMenuItem);
+        item1.setItemName(testMenuItem.getName());
+        item1.setUnitPrice(testMenuItem.getPrice());
         testItems.add(item1);
 
         // Set up test order
@@ -88,6 +116,7 @@ public class OrderServiceImplTest {
     void createOrder_Success() {
         // Arrange
         when(tableItemRepository.findByTableId(101L)).thenReturn(Optional.of(testTable));
+        when(menuItemRepository.findAllById(any())).thenReturn(List.of(testMenuItem));
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
         // Act
@@ -99,6 +128,54 @@ public class OrderServiceImplTest {
         assertEquals(OrderStatus.CREATED, result.getStatus());
         assertEquals(20.0, result.getTotalAmount());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(menuItemRepository, times(1)).findAllById(any());
+        verify(menuItemRepository, never()).findById(any());
+        verify(orderItemRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createOrder_PersistsCompleteAggregateOnce() {
+        // Arrange
+        when(tableItemRepository.findByTableId(101L)).thenReturn(Optional.of(testTable));
+        when(menuItemRepository.findAllById(any())).thenReturn(List.of(testMenuItem));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            assertEquals(OrderStatus.CREATED, order.getStatus());
+            assertEquals(20.0, order.getTotal());
+            assertEquals(1, order.getItems().size());
+            assertSame(order, order.getItems().get(0).getOrder());
+            order.setId(1L);
+            return order;
+        });
+
+        // Act
+        orderService.createOrder(createOrderDTO);
+
+        // Assert
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    void createOrder_UnknownMenuItems_ReportsAllUnknownIds() {
+        // Arrange
+        CreateOrderDTO.OrderItemRequest unknown1 = new CreateOrderDTO.OrderItemRequest();
+        unknown1.setMenuItemId(7L);
+        unknown1.setQuantity(1);
+        CreateOrderDTO.OrderItemRequest unknown2 = new CreateOrderDTO.OrderItemRequest();
+        unknown2.setMenuItemId(9L);
+        unknown2.setQuantity(1);
+        createOrderDTO.getItems().add(unknown1);
+        createOrderDTO.getItems().add(unknown2);
+
+        when(tableItemRepository.findByTableId(101L)).thenReturn(Optional.of(testTable));
+        when(menuItemRepository.findAllById(any())).thenReturn(List.of(testMenuItem));
+
+        // Act & Assert
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, () -> {
+            orderService.createOrder(createOrderDTO);
+        });
+        assertEquals("MenuItem not found: [7, 9]", exception.getMessage());
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
@@ -116,7 +193,7 @@ public class OrderServiceImplTest {
     @Test
     void getOrder_ValidId_ReturnsOrder() {
         // Arrange
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findLineViewsById(1L)).thenReturn(lineViews(testOrder));
 
         // Act
         OrderDTO result = orderService.getOrder(1L);
@@ -126,12 +203,14 @@ public class OrderServiceImplTest {
         assertEquals(1L, result.getId());
         assertEquals(OrderStatus.CREATED, result.getStatus());
         assertEquals(20.0, result.getTotalAmount());
+        assertEquals(1, result.getItems().size());
+        verify(orderRepository, never()).findById(any());
     }
 
     @Test
     void getOrder_InvalidId_ThrowsException() {
         // Arrange
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findLineViewsById(999L)).thenReturn(List.of());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
@@ -142,8 +221,9 @@ public class OrderServiceImplTest {
     @Test
     void updateOrderStatus_ValidId_UpdatesStatus() {
         // Arrange
+        testOrder.setStatus(OrderStatus.IN_PREPARATION);
+        when(orderRepository.transitionStatus(1L, OrderStatus.IN_PREPARATION)).thenReturn(true);
         when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
         // Act
         OrderDTO result = orderService.updateOrderStatus(1L, OrderStatus.IN_PREPARATION);
@@ -151,13 +231,15 @@ public class OrderServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(OrderStatus.IN_PREPARATION, result.getStatus());
-        verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderMessageProducer, times(1)).sendOrder(testOrder);
     }
 
     @Test
     void updateOrderStatus_InvalidId_ThrowsException() {
         // Arrange
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.transitionStatus(999L, OrderStatus.IN_PREPARATION)).thenReturn(false);
+        when(orderRepository.findStatusById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
@@ -167,26 +249,68 @@ public class OrderServiceImplTest {
     }
 
     @Test
-    void getAllOrders_ReturnsAllOrders() {
+    void updateOrderStatus_TransitionNotAllowed_ThrowsConflict() {
+        // Arrange
+        when(orderRepository.transitionStatus(1L, OrderStatus.READY)).thenReturn(false);
+        when(orderRepository.findStatusById(1L)).thenReturn(Optional.of(OrderStatus.DELIVERED));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            orderService.updateOrderStatus(1L, OrderStatus.READY);
+        });
+        assertEquals("Order 1 cannot move from DELIVERED to READY", exception.getMessage());
+        verify(orderRepository, never()).findById(1L);
+        verifyNoInteractions(orderMessageProducer);
+    }
+
+    @Test
+    void getOrdersPage_MoreOrdersThanLimit_ReturnsCursorToNextPage() {
         // Arrange
-        List<Order> orders = List.of(testOrder);
-        when(orderRepository.findAll()).thenReturn(orders);
+        testOrder.setCreatedAt(LocalDateTime.of(2024, 5, 1, 12, 30));
+        when(orderRepository.findPageIds(null, null, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(orderRepository.findAllWithItemsByIdIn(List.of(1L))).thenReturn(List.of(testOrder));
+        when(orderRepository.findPageIdsBefore(null, null, testOrder.getCreatedAt(), 1L, PageRequest.of(0, 2)))
+            .thenReturn(List.of());
 
         // Act
-        List<OrderDTO> result = orderService.getAllOrders();
+        OrderPageDTO firstPage = orderService.getOrdersPage(null, 1, null, null);
+        OrderPageDTO nextPage = orderService.getOrdersPage(firstPage.getNextCursor(), 1, null, null);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(1L, result.get(0).getId());
-        verify(orderRepository, times(1)).findAll();
+        assertEquals(1, firstPage.getOrders().size());
+        assertEquals(1L, firstPage.getOrders().get(0).getId());
+        assertNotNull(firstPage.getNextCursor());
+        assertTrue(nextPage.getOrders().isEmpty());
+        assertNull(nextPage.getNextCursor());
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    void getOrdersPage_LimitAboveCap_IsClamped() {
+        // Arrange
+        when(orderRepository.findPageIds(OrderStatus.READY, 101L, PageRequest.of(0, OrderServiceImpl.MAX_PAGE_SIZE + 1)))
+            .thenReturn(List.of());
+
+        // Act
+        OrderPageDTO result = orderService.getOrdersPage(null, 10_000, OrderStatus.READY, 101L);
+
+        // Assert
+        assertTrue(result.getOrders().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(orderRepository, never()).findAllWithItemsByIdIn(any());
+    }
+
+    @Test
+    void getOrdersPage_MalformedCursor_ThrowsIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrdersPage("not-a-cursor", null, null, null));
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
     void getOrdersByTableId_ReturnsOrdersForTable() {
         // Arrange
-        List<Order> orders = List.of(testOrder);
-        when(orderRepository.findByTableId(1L)).thenReturn(orders);
+        when(orderRepository.findLineViewsByTableId(1L)).thenReturn(lineViews(testOrder));
 
         // Act
         List<OrderDTO> result = orderService.getOrdersByTableId(1L);
@@ -196,7 +320,7 @@ public class OrderServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
         assertEquals(101L, result.get(0).getTableId());
-        verify(orderRepository, times(1)).findByTableId(1L);
+        verify(orderRepository, times(1)).findLineViewsByTableId(1L);
     }
 
     @Test
@@ -219,6 +343,44 @@ public class OrderServiceImplTest {
         verify(orderRepository, times(1)).save(testOrder);
     }
 
+    @Test
+    void updateOrderItems_ChangedLines_AppliesOnlyTheDelta() {
+        // Arrange
+        MenuItem dessert = new MenuItem();
+        dessert.setId(2L);
+        dessert.setName("Dessert");
+        dessert.setPrice(5.0);
+        dessert.setCategory(MenuCategory.DESSERT);
+        OrderItem existingItem = testItems.get(0);
+
+        CreateOrderDTO updatedOrder = new CreateOrderDTO();
+        CreateOrderDTO.OrderItemRequest bumped = new CreateOrderDTO.OrderItemRequest();
+        bumped.setMenuItemId(1L);
+        bumped.setQuantity(3);
+        CreateOrderDTO.OrderItemRequest added = new CreateOrderDTO.OrderItemRequest();
+        added.setMenuItemId(2L);
+        added.setQuantity(1);
+        updatedOrder.setItems(List.of(bumped, added));
+
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        when(menuItemRepository.findAllById(Set.of(2L))).thenReturn(List.of(dessert));
+        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+
+        // Act
+        OrderDTO result = orderService.updateOrderItems(1L, updatedOrder);
+
+        // Assert
+        assertEquals(2, testOrder.getItems().size());
+        assertSame(existingItem, testOrder.getItems().get(0));
+        assertEquals(3, existingItem.getQuantity());
+        assertEquals(35.0, testOrder.getTotal());
+        assertEquals(35.0, result.getTotalAmount());
+        verify(orderItemRepository, never()).deleteAll(any());
+        verify(orderItemRepository, never()).saveAll(any());
+        verify(menuAvailabilityService, times(1)).reserve(Map.of(1L, 1, 2L, 1));
+        verify(menuAvailabilityService, never()).release(any());
+    }
+
     @Test
     void updateOrderItems_NonExistingOrder_ThrowsException() {
         // Arrange
@@ -234,6 +396,39 @@ public class OrderServiceImplTest {
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    void updateOrderItems_CancelledOrder_ThrowsWithoutTouchingStock() {
+        // Arrange
+        testOrder.setStatus(OrderStatus.CANCELLED);
+        CreateOrderDTO.OrderItemRequest bumped = new CreateOrderDTO.OrderItemRequest();
+        bumped.setMenuItemId(1L);
+        bumped.setQuantity(5);
+        CreateOrderDTO updatedOrder = new CreateOrderDTO();
+        updatedOrder.setItems(List.of(bumped));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.updateOrderItems(1L, updatedOrder));
+        assertEquals(2, testOrder.getItems().get(0).getQuantity());
+        verifyNoInteractions(menuAvailabilityService);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void removeItemFromOrder_DeliveredOrder_ThrowsWithoutChangingTotal() {
+        // Arrange
+        testOrder.setStatus(OrderStatus.DELIVERED);
+        double total = testOrder.getTotal();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.removeItemFromOrder(1L, 1L));
+        assertEquals(total, testOrder.getTotal());
+        verify(orderItemRepository, never()).delete(any());
+        verifyNoInteractions(menuAvailabilityService);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @Test
     void removeItemFromOrder_ExistingOrderAndItem_RemovesItem() {
         // Arrange
@@ -293,8 +488,7 @@ public class OrderServiceImplTest {
     @Test
     void getOrdersByStatus_ReturnsOrdersWithSpecifiedStatus() {
         // Arrange
-        List<Order> orders = List.of(testOrder);
-        when(orderRepository.findByStatus(OrderStatus.CREATED)).thenReturn(orders);
+        when(orderRepository.findLineViewsByStatus(OrderStatus.CREATED)).thenReturn(lineViews(testOrder));
 
         // Act
         List<OrderDTO> result = orderService.getOrdersByStatus(OrderStatus.CREATED);
@@ -303,6 +497,163 @@ public class OrderServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(OrderStatus.CREATED, result.get(0).getStatus());
-        verify(orderRepository, times(1)).findByStatus(OrderStatus.CREATED);
+        verify(orderRepository, times(1)).findLineViewsByStatus(OrderStatus.CREATED);
+        verify(orderRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    void getOrdersByStatus_SeveralOrders_GroupsLinesPerOrder() {
+        // Arrange
+        Order emptyOrder = new Order();
+        emptyOrder.setId(2L);
+        emptyOrder.setTable(testTable);
+        emptyOrder.setStatus(OrderStatus.CREATED);
+        OrderItem secondLine = new OrderItem();
+        secondLine.setQuantity(1);
+        secondLine.setMenuItem(testMenuItem);
+        secondLine.setItemName("Side");
+        secondLine.setUnitPrice(4.0);
+        testItems.add(secondLine);
+
+        List<OrderLineView> rows = new ArrayList<>(lineViews(testOrder));
+        rows.add(new OrderLineView(2L, 101L, OrderStatus.CREATED, null, 0.0, 0L, null, null, null, null));
+        when(orderRepository.findLineViewsByStatus(OrderStatus.CREATED)).thenReturn(rows);
+
+        // Act
+        List<OrderDTO> result = orderService.getOrdersByStatus(OrderStatus.CREATED);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(List.of("Test Item", "Side"),
+            result.get(0).getItems().stream().map(OrderDTO.OrderItemDTO::getItemName).toList());
+        assertEquals(emptyOrder.getId(), result.get(1).getId());
+        assertTrue(result.get(1).getItems().isEmpty());
+    }
+
+    @Test
+    void getOrderByTable_SessionPresent_SkipsTableQuery() {
+        // Arrange
+        when(redisOrderService.getOrderSession(1L)).thenReturn(1L);
+        when(orderRepository.findLineViewsById(1L)).thenReturn(lineViews(testOrder));
+
+        // Act
+        OrderDTO result = orderService.getOrderByTable(1L);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(orderRepository, never()).findLatestIdsByTableAndStatus(any(), any(), any());
+        verify(orderRepository, never()).findByTableId(any());
+    }
+
+    @Test
+    void getOrderByTable_SessionPointsAtClosedOrder_FallsBackToLatestActive() {
+        // Arrange
+        Order delivered = new Order();
+        delivered.setId(5L);
+        delivered.setTable(testTable);
+        delivered.setStatus(OrderStatus.DELIVERED);
+        delivered.setItems(testItems);
+        when(redisOrderService.getOrderSession(1L)).thenReturn(5L);
+        when(orderRepository.findLineViewsById(5L)).thenReturn(lineViews(delivered));
+        when(orderRepository.findLatestIdsByTableAndStatus(1L, OrderStatus.activeStatuses(), PageRequest.of(0, 1)))
+            .thenReturn(List.of(1L));
+        when(orderRepository.findLineViewsById(1L)).thenReturn(lineViews(testOrder));
+
+        // Act
+        OrderDTO result = orderService.getOrderByTable(1L);
+
+        // Assert
+        assertEquals(1L, result.getId());
+        verify(redisOrderService).removeOrderSession(1L);
+        verify(redisOrderService).saveOrderSession(1L, 1L);
+    }
+
+    @Test
+    void getOrderByTable_NoActiveOrder_ThrowsException() {
+        // Arrange
+        when(orderRepository.findLatestIdsByTableAndStatus(1L, OrderStatus.activeStatuses(), PageRequest.of(0, 1)))
+            .thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> orderService.getOrderByTable(1L));
+        verify(redisOrderService, never()).saveOrderSession(any(), any());
+    }
+
+    @Test
+    void updateOrderStatus_Delivered_EndsTableSession() {
+        // Arrange
+        testOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.transitionStatus(1L, OrderStatus.DELIVERED)).thenReturn(true);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        // Act
+        orderService.updateOrderStatus(1L, OrderStatus.DELIVERED);
+
+        // Assert
+        verify(redisOrderService).removeOrderSession(testTable.getId());
+    }
+
+    @Test
+    void createOrder_ReservesOrderedQuantities() {
+        // Arrange
+        when(tableItemRepository.findByTableId(101L)).thenReturn(Optional.of(testTable));
+        when(menuItemRepository.findAllById(any())).thenReturn(List.of(testMenuItem));
+        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+
+        // Act
+        orderService.createOrder(createOrderDTO);
+
+        // Assert
+        verify(menuAvailabilityService, times(1)).reserve(Map.of(1L, 2));
+    }
+
+    @Test
+    void createOrder_SoldOutItem_ThrowsConflictWithoutSaving() {
+        // Arrange
+        when(tableItemRepository.findByTableId(101L)).thenReturn(Optional.of(testTable));
+        when(menuItemRepository.findAllById(any())).thenReturn(List.of(testMenuItem));
+        doThrow(new IllegalStateException("MenuItem 1 is sold out"))
+            .when(menuAvailabilityService).reserve(any());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.createOrder(createOrderDTO));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderMessageProducer, never()).sendOrder(any());
+    }
+
+    @Test
+    void updateOrderStatus_Cancelled_ReleasesReservedStock() {
+        // Arrange
+        testOrder.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.transitionStatus(1L, OrderStatus.CANCELLED)).thenReturn(true);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        // Act
+        orderService.updateOrderStatus(1L, OrderStatus.CANCELLED);
+
+        // Assert
+        verify(menuAvailabilityService, times(1)).release(Map.of(1L, 2));
+    }
+
+    @Test
+    void updateOrderStatus_Delivered_KeepsStockTaken() {
+        // Arrange
+        testOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.transitionStatus(1L, OrderStatus.DELIVERED)).thenReturn(true);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        // Act
+        orderService.updateOrderStatus(1L, OrderStatus.DELIVERED);
+
+        // Assert
+        verify(menuAvailabilityService, never()).release(any());
+    }
+
+    private List<OrderLineView> lineViews(Order order) {
+        return order.getItems().stream()
+            .map(item -> new OrderLineView(order.getId(), order.getTable().getTableId(), order.getStatus(),
+                order.getCreatedAt(), order.getTotal(), order.getVersion(), item.getMenuItem().getId(), item.getItemName(),
+                item.getQuantity(), item.getUnitPrice()))
+            .toList();
     }
 }
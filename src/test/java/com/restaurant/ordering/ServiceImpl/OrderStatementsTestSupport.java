@@ -0,0 +1,118 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.DTO.CreateOrderDTO;
+import com.restaurant.ordering.DTO.OrderDTO;
+import com.restaurant.ordering.Enums.MenuCategory;
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Model.TableItem;
+import com.restaurant.ordering.Repository.MenuItemRepository;
+import com.restaurant.ordering.Repository.OrderRepository;
+import com.restaurant.ordering.Repository.TableItemRepository;
+import com.restaurant.ordering.Service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Shared scaffold for the tests that count the JDBC statements behind an order call: starts from
+ * empty order, menu and table data, seeds it, and reads Hibernate statistics around one call.
+ * The outbox producer is mocked so only the order tables are touched.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+abstract class OrderStatementsTestSupport {
+
+    @Autowired
+    protected OrderService orderService;
+
+    @Autowired
+    protected OrderRepository orderRepository;
+
+    @Autowired
+    protected MenuItemRepository menuItemRepository;
+
+    @Autowired
+    protected TableItemRepository tableItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private OrderMessageProducer orderMessageProducer;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearOrderData() {
+        orderRepository.deleteAll();
+        menuItemRepository.deleteAll();
+        tableItemRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    protected List<MenuItem> seedMenu(int count) {
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MenuItem menuItem = new MenuItem();
+            menuItem.setName("Dish " + i);
+            menuItem.setPrice(5.0 + i);
+            menuItem.setCategory(MenuCategory.MAIN_COURSE);
+            menuItems.add(menuItem);
+        }
+        return menuItemRepository.saveAll(menuItems);
+    }
+
+    protected List<TableItem> seedTables(long firstTableId, int count) {
+        List<TableItem> tables = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TableItem table = new TableItem();
+            table.setTableId(firstTableId + i);
+            tables.add(table);
+        }
+        return tableItemRepository.saveAll(tables);
+    }
+
+    protected CreateOrderDTO orderFor(TableItem table, List<MenuItem> menuItems, int quantity) {
+        CreateOrderDTO orderDTO = new CreateOrderDTO();
+        orderDTO.setTableId(table.getTableId());
+        List<CreateOrderDTO.OrderItemRequest> items = new ArrayList<>();
+        for (MenuItem menuItem : menuItems) {
+            CreateOrderDTO.OrderItemRequest request = new CreateOrderDTO.OrderItemRequest();
+            request.setMenuItemId(menuItem.getId());
+            request.setQuantity(quantity);
+            items.add(request);
+        }
+        orderDTO.setItems(items);
+        return orderDTO;
+    }
+
+    protected OrderDTO placeOrder(TableItem table, List<MenuItem> menuItems, int quantity) {
+        return orderService.createOrder(orderFor(table, menuItems, quantity));
+    }
+
+    /**
+     * Statements prepared while {@code call} runs; each JDBC batch counts once.
+     */
+    protected long statementsFor(Runnable call) {
+        return counted(() -> {
+            call.run();
+            return null;
+        }).statements();
+    }
+
+    protected <T> Counted<T> counted(Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        return new Counted<>(result, statistics.getPrepareStatementCount());
+    }
+
+    protected record Counted<T>(T result, long statements) {
+    }
+}
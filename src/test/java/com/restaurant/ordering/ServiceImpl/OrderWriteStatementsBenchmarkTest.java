@@ -0,0 +1,45 @@
+package com.restaurant.ordering.ServiceImpl;
+
+import com.restaurant.ordering.Model.MenuItem;
+import com.restaurant.ordering.Model.TableItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the JDBC statements a single createOrder call prepares.
+ * With IDENTITY ids every order item was its own INSERT round trip (1 + 2N + 2 statements);
+ * with pooled sequences and batching the count no longer depends on the number of items.
+ */
+public class OrderWriteStatementsBenchmarkTest extends OrderStatementsTestSupport {
+
+    // Table lookup, menu lookup, the order INSERT and one batched INSERT for all of its items
+    private static final long MAX_CREATE_ORDER_STATEMENTS = 4;
+
+    private TableItem testTable;
+    private List<MenuItem> menuItems;
+
+    @BeforeEach
+    void setUp() {
+        testTable = seedTables(101L, 1).get(0);
+        menuItems = seedMenu(12);
+    }
+
+    @Test
+    void createOrder_StatementCountDoesNotGrowWithItemCount() {
+        // Arrange: warm up so sequence pools are allocated before counting
+        placeOrder(testTable, menuItems.subList(0, 1), 1);
+
+        // Act
+        long smallOrderStatements = statementsFor(() -> placeOrder(testTable, menuItems.subList(0, 1), 1));
+        long partyOrderStatements = statementsFor(() -> placeOrder(testTable, menuItems, 1));
+
+        // Assert
+        assertTrue(smallOrderStatements <= MAX_CREATE_ORDER_STATEMENTS,
+                () -> "createOrder prepared " + smallOrderStatements + " statements");
+        assertEquals(smallOrderStatements, partyOrderStatements);
+    }
+}